@@ -0,0 +1,60 @@
+package practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import practicum.mapper.EventMapper;
+import practicum.model.Event;
+import practicum.model.dto.category.CategoryDto;
+import practicum.model.dto.event.EventFullDto;
+import practicum.model.dto.event.EventShortDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private List<Event> events;
+    private Event event;
+    private Map<Long, CategoryDto> categories;
+
+    @Setup
+    public void setUp() {
+        events = Fixtures.events(size);
+        event = events.get(0);
+        categories = Fixtures.categories();
+    }
+
+    @Benchmark
+    public EventShortDto toEventShortDto() {
+        return EventMapper.toEventShortDto(event, categories);
+    }
+
+    @Benchmark
+    public EventShortDto toEventShortDtoWithoutDictionary() {
+        return EventMapper.toEventShortDto(event);
+    }
+
+    @Benchmark
+    public EventFullDto toFullEventDto() {
+        return EventMapper.toFullEventDto(event, categories);
+    }
+
+    @Benchmark
+    public List<EventShortDto> toEventShortDtoList() {
+        return EventMapper.toEventShortDtoList(events, categories);
+    }
+
+    @Benchmark
+    public List<EventFullDto> toEventFullDtoList() {
+        return EventMapper.toEventFullDtoList(events);
+    }
+}
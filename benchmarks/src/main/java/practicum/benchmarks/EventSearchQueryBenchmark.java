@@ -0,0 +1,74 @@
+package practicum.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import practicum.model.Category;
+import practicum.model.Event;
+import practicum.model.Location;
+import practicum.model.enums.SortValue;
+import practicum.service.event.EventSearchQueries;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSearchQueryBenchmark {
+
+    private static final List<Long> CATEGORIES = List.of(1L, 2L, 3L, 5L, 8L);
+    private static final LocalDateTime RANGE_START = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private static final LocalDateTime RANGE_END = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Event.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Location.class)
+                .setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.show_sql", "false")
+                .buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        cb = entityManager.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Event> buildAllFilters() {
+        return EventSearchQueries.publicSearch(cb, "концерт", CATEGORIES, true,
+                RANGE_START, RANGE_END, SortValue.VIEWS);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Event> buildNoFilters() {
+        return EventSearchQueries.publicSearch(cb, null, null, null, null, null, SortValue.EVENT_DATE);
+    }
+
+    @Benchmark
+    public TypedQuery<Event> buildAndCreateQuery() {
+        return entityManager.createQuery(EventSearchQueries.publicSearch(cb, "концерт", CATEGORIES, true,
+                        RANGE_START, RANGE_END, SortValue.VIEWS))
+                .setFirstResult(0)
+                .setMaxResults(10);
+    }
+}
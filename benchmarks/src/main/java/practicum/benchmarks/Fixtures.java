@@ -0,0 +1,59 @@
+package practicum.benchmarks;
+
+import practicum.model.Category;
+import practicum.model.Event;
+import practicum.model.Location;
+import practicum.model.dto.category.CategoryDto;
+import practicum.model.enums.EventState;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class Fixtures {
+    static final int CATEGORIES = 20;
+
+    private Fixtures() {
+
+    }
+
+    static Map<Long, CategoryDto> categories() {
+        Map<Long, CategoryDto> categories = new HashMap<>();
+        for (long id = 1; id <= CATEGORIES; id++) {
+            categories.put(id, new CategoryDto(id, "Категория " + id));
+        }
+        return categories;
+    }
+
+    static List<Event> events(int count) {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        List<Event> events = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            long categoryId = id % CATEGORIES + 1;
+            events.add(Event.builder()
+                    .id(id)
+                    .annotation("Аннотация события " + id + " — концерт, выставка или мастер-класс в центре города")
+                    .title("Событие " + id)
+                    .description("Подробное описание события " + id + ". ".repeat(20))
+                    .createdOn(now.minusDays(id % 30))
+                    .eventDate(now.plusDays(id % 60 + 1))
+                    .publishedOn(now.minusDays(id % 7))
+                    .initiator(id % 100 + 1)
+                    .location(new Location(id, new BigDecimal("55.754167"), new BigDecimal("37.620000")))
+                    .category(new Category(categoryId, "Категория " + categoryId))
+                    .paid(id % 2 == 0)
+                    .participantLimit(id % 3 == 0 ? 0L : 50L)
+                    .requestModeration(true)
+                    .state(EventState.PUBLISHED)
+                    .views(id * 17)
+                    .confirmedRequests(id % 50)
+                    .commentsCount(id % 5)
+                    .version(0L)
+                    .build());
+        }
+        return events;
+    }
+}
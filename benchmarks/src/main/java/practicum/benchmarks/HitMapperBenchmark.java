@@ -0,0 +1,38 @@
+package practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import practicum.HitDto;
+import practicum.mapper.HitMapper;
+import practicum.model.Hit;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HitMapperBenchmark {
+
+    private HitDto hitDto;
+    private Hit hit;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 6, 1, 12, 0);
+        hitDto = new HitDto(null, "ewm-main-service", "/events/42", "192.168.0.17", timestamp);
+        hit = new Hit(42L, "ewm-main-service", "/events/42", "192.168.0.17", timestamp);
+    }
+
+    @Benchmark
+    public Hit toHit() {
+        return HitMapper.toHit(hitDto);
+    }
+
+    @Benchmark
+    public HitDto toHitDto() {
+        return HitMapper.toHitDto(hit);
+    }
+}
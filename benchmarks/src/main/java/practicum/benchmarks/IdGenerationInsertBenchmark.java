@@ -0,0 +1,207 @@
+package practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Воспроизводит на уровне JDBC то, что Hibernate отправляет в БД при сохранении пачки сущностей:
+// identity — отдельный INSERT с чтением сгенерированного ключа на каждую строку,
+// pooled-lo — один nextval на allocationSize строк и пакетные INSERT по BATCH_SIZE.
+// По умолчанию работает на H2 без сети; для оценки с реальными сетевыми задержками
+// укажите -p url=jdbc:postgresql://localhost:5432/bench -p user=postgres -p password=postgres
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(IdGenerationInsertBenchmark.ROWS)
+public class IdGenerationInsertBenchmark {
+
+    static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Param({"hits", "requests", "events"})
+    private String table;
+
+    @Param({"identity", "pooled-lo"})
+    private String strategy;
+
+    @Param("jdbc:h2:mem:id-generation;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+    private String url;
+
+    @Param("sa")
+    private String user;
+
+    @Param("")
+    private String password;
+
+    private Connection connection;
+    private TableSpec spec;
+    private long nextId;
+    private long lastId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        spec = TableSpec.of(table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + spec.name);
+            statement.execute("DROP SEQUENCE IF EXISTS " + spec.name + "_seq");
+            String idColumn = "identity".equals(strategy)
+                    ? "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY"
+                    : "id BIGINT PRIMARY KEY";
+            statement.execute("CREATE TABLE " + spec.name + " (" + idColumn + ", " + spec.columns + ")");
+            statement.execute("CREATE SEQUENCE " + spec.name + "_seq START WITH 1 INCREMENT BY " + spec.allocationSize);
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + spec.name);
+            statement.execute("DROP SEQUENCE IF EXISTS " + spec.name + "_seq");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public long insert() throws SQLException {
+        long checksum = "identity".equals(strategy) ? insertWithIdentity() : insertWithPooledLo();
+        connection.commit();
+        return checksum;
+    }
+
+    private long insertWithIdentity() throws SQLException {
+        long checksum = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + spec.name + " (" + spec.insertColumns + ") VALUES (" + spec.placeholders + ")",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                spec.bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    checksum += keys.getLong(1);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private long insertWithPooledLo() throws SQLException {
+        long checksum = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + spec.name + " (id, " + spec.insertColumns + ") VALUES (?, " + spec.placeholders + ")")) {
+            for (int i = 0; i < ROWS; i++) {
+                long id = nextPooledId();
+                insert.setLong(1, id);
+                spec.bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+                checksum += id;
+            }
+            insert.executeBatch();
+        }
+        return checksum;
+    }
+
+    private long nextPooledId() throws SQLException {
+        if (nextId == lastId) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT nextval('" + spec.name + "_seq')")) {
+                rs.next();
+                nextId = rs.getLong(1);
+                lastId = nextId + spec.allocationSize;
+            }
+        }
+        return nextId++;
+    }
+
+    private enum TableSpec {
+        HITS("hits", 100,
+                "app VARCHAR(100) NOT NULL, uri VARCHAR(2000) NOT NULL, ip VARCHAR(255) NOT NULL, created TIMESTAMP NOT NULL",
+                "app, uri, ip, created") {
+            @Override
+            void bind(PreparedStatement ps, int from, int i) throws SQLException {
+                ps.setString(from, "ewm-main-service");
+                ps.setString(from + 1, "/events/" + i);
+                ps.setString(from + 2, "192.168.0." + (i % 250));
+                ps.setTimestamp(from + 3, Timestamp.valueOf(NOW));
+            }
+        },
+        REQUESTS("participation_requests", 50,
+                "created TIMESTAMP, event_id BIGINT NOT NULL, requester_id BIGINT NOT NULL, status VARCHAR(20)",
+                "created, event_id, requester_id, status") {
+            @Override
+            void bind(PreparedStatement ps, int from, int i) throws SQLException {
+                ps.setTimestamp(from, Timestamp.valueOf(NOW));
+                ps.setLong(from + 1, i % 40);
+                ps.setLong(from + 2, i);
+                ps.setString(from + 3, "PENDING");
+            }
+        },
+        EVENTS("events", 50,
+                "annotation VARCHAR(2000), title VARCHAR(255), description VARCHAR(7000), created_on TIMESTAMP, "
+                        + "event_date TIMESTAMP, initiator_id BIGINT NOT NULL, location_id BIGINT NOT NULL, "
+                        + "paid BOOLEAN, participant_limit BIGINT, request_moderation BOOLEAN, state VARCHAR(20), "
+                        + "category_id BIGINT NOT NULL, views BIGINT NOT NULL, confirmed_requests BIGINT NOT NULL, "
+                        + "comments_count BIGINT NOT NULL, version BIGINT NOT NULL",
+                "annotation, title, description, created_on, event_date, initiator_id, location_id, paid, "
+                        + "participant_limit, request_moderation, state, category_id, views, confirmed_requests, "
+                        + "comments_count, version") {
+            @Override
+            void bind(PreparedStatement ps, int from, int i) throws SQLException {
+                ps.setString(from, "Летний концерт под открытым небом №" + i);
+                ps.setString(from + 1, "Концерт " + i);
+                ps.setString(from + 2, "Большой концерт в парке с участием местных групп.");
+                ps.setTimestamp(from + 3, Timestamp.valueOf(NOW));
+                ps.setTimestamp(from + 4, Timestamp.valueOf(NOW.plusDays(30)));
+                ps.setLong(from + 5, i % 100);
+                ps.setLong(from + 6, i % 20);
+                ps.setBoolean(from + 7, false);
+                ps.setLong(from + 8, 50);
+                ps.setBoolean(from + 9, true);
+                ps.setString(from + 10, "PENDING");
+                ps.setLong(from + 11, i % 8);
+                ps.setLong(from + 12, 0);
+                ps.setLong(from + 13, 0);
+                ps.setLong(from + 14, 0);
+                ps.setLong(from + 15, 0);
+            }
+        };
+
+        private final String name;
+        private final int allocationSize;
+        private final String columns;
+        private final String insertColumns;
+        private final String placeholders;
+
+        TableSpec(String name, int allocationSize, String columns, String insertColumns) {
+            this.name = name;
+            this.allocationSize = allocationSize;
+            this.columns = columns;
+            this.insertColumns = insertColumns;
+            this.placeholders = "?" + ", ?".repeat(insertColumns.split(",").length - 1);
+        }
+
+        abstract void bind(PreparedStatement ps, int from, int i) throws SQLException;
+
+        static TableSpec of(String table) {
+            return switch (table) {
+                case "hits" -> HITS;
+                case "requests" -> REQUESTS;
+                case "events" -> EVENTS;
+                default -> throw new IllegalArgumentException("Неизвестная таблица: " + table);
+            };
+        }
+    }
+}
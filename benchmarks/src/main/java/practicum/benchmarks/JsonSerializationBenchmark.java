@@ -0,0 +1,81 @@
+package practicum.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import practicum.ViewStatsDto;
+import practicum.mapper.EventMapper;
+import practicum.model.dto.event.EventFullDto;
+import practicum.model.dto.event.EventShortDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectWriter writer;
+    private EventFullDto fullEvent;
+    private List<EventFullDto> fullEvents;
+    private List<EventShortDto> shortEvents;
+    private List<ViewStatsDto> stats;
+    private String statsJson;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Те же настройки, что spring.jackson.* в конфигурации сервисов
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat("yyyy-MM-dd HH:mm:ss")
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .build();
+        writer = objectMapper.writer();
+
+        fullEvents = EventMapper.toEventFullDtoList(Fixtures.events(size));
+        fullEvent = fullEvents.get(0);
+        shortEvents = EventMapper.toEventShortDtoList(Fixtures.events(size), Fixtures.categories());
+
+        stats = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            stats.add(new ViewStatsDto("ewm-main-service", "/events/" + id, id * 31));
+        }
+        statsJson = writer.writeValueAsString(stats);
+    }
+
+    @Benchmark
+    public byte[] serializeEventFullDto() throws JsonProcessingException {
+        return writer.writeValueAsBytes(fullEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeEventFullDtoList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(fullEvents);
+    }
+
+    @Benchmark
+    public byte[] serializeEventShortDtoList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(shortEvents);
+    }
+
+    @Benchmark
+    public byte[] serializeViewStatsDtoList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(stats);
+    }
+
+    @Benchmark
+    public ViewStatsDto[] deserializeViewStatsDtoList() throws JsonProcessingException {
+        return objectMapper.readValue(statsJson, ViewStatsDto[].class);
+    }
+}
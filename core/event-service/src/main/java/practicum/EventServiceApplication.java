@@ -2,19 +2,30 @@ package practicum;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import practicum.client.EdgeCacheClient;
 import practicum.client.RequestClient;
 import practicum.client.UserClient;
+import practicum.client.transport.InterServiceFeignConfiguration;
+import practicum.service.edge.GatewayManagementLoadBalancerConfiguration;
 
 @SpringBootApplication
 @EnableFeignClients(
         clients = {
                 StatsClient.class,
                 UserClient.class,
-                RequestClient.class
-        }
+                RequestClient.class,
+                EdgeCacheClient.class
+        },
+        defaultConfiguration = InterServiceFeignConfiguration.class
 )
+@LoadBalancerClient(name = "gateway-server", configuration = GatewayManagementLoadBalancerConfiguration.class)
+@EnableAsync
+@EnableScheduling
 public class EventServiceApplication {
 
     public static void main(String[] args) {
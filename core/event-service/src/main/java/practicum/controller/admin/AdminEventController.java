@@ -7,7 +7,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import practicum.model.dto.event.EventBatchModerationRequest;
 import practicum.model.dto.event.EventFullDto;
+import practicum.model.dto.event.EventModerationResult;
 import practicum.model.dto.event.UpdateEventAdminRequest;
 import practicum.model.enums.EventState;
 import practicum.service.event.EventService;
@@ -41,4 +43,9 @@ public class AdminEventController {
                                            @Valid @RequestBody UpdateEventAdminRequest updateEventAdminRequest) {
         return eventService.updateEventByAdmin(eventId, updateEventAdminRequest);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/batch")
+    public List<EventModerationResult> moderateEvents(@Valid @RequestBody EventBatchModerationRequest request) {
+        return eventService.moderateEvents(request);
+    }
+}
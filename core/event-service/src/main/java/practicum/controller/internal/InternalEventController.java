@@ -1,9 +1,13 @@
 package practicum.controller.internal;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import practicum.model.dto.event.EventFullDto;
+import practicum.model.dto.filter.IdFilterUpdate;
 import practicum.service.event.EventService;
+import practicum.service.filter.EventIdFilterService;
 
 import java.util.Optional;
 
@@ -13,6 +17,15 @@ import java.util.Optional;
 public class InternalEventController {
 
     private final EventService eventService;
+    private final EventIdFilterService eventIdFilterService;
+
+    @GetMapping("/id-filter")
+    public ResponseEntity<IdFilterUpdate> getIdFilter(@RequestParam(defaultValue = "") String epoch,
+                                                      @RequestParam(defaultValue = "0") long since) {
+        return eventIdFilterService.getUpdates(epoch, since)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
 
     @GetMapping("/{id}")
     public Optional<EventFullDto> getEvent(@PathVariable Long id) {
@@ -24,4 +37,10 @@ public class InternalEventController {
                                         @RequestParam Long confirmedRequests) {
         eventService.updateConfirmedRequests(eventId, confirmedRequests);
     }
+
+    @PatchMapping("/{eventId}/confirmed-requests/increment")
+    public void addConfirmedRequests(@PathVariable Long eventId,
+                                     @RequestParam long delta) {
+        eventService.addConfirmedRequests(eventId, delta);
+    }
 }
\ No newline at end of file
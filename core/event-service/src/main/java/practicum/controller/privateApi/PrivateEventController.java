@@ -1,8 +1,12 @@
 package practicum.controller.privateApi;
 
+import feign.Response;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -15,8 +19,12 @@ import practicum.model.dto.event.UpdateEventUserRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateResult;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.service.event.EventService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 @RestController
@@ -35,6 +43,14 @@ public class PrivateEventController {
         return eventService.createEvent(newEventDto, userId);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<EventFullDto> createEvents(@PathVariable Long userId,
+                                           @RequestBody @NotEmpty @Size(max = 10000)
+                                           List<@Valid NewEventDto> newEventDtos) {
+        return eventService.createEvents(newEventDtos, userId);
+    }
+
     @GetMapping("/{eventId}")
     public EventFullDto getEvent(@PathVariable Long userId,
                                  @PathVariable Long eventId) {
@@ -54,6 +70,33 @@ public class PrivateEventController {
         return requestClient.getRequestsForEventByOwner(userId, eventId);
     }
 
+    @GetMapping("/{eventId}/requests/page")
+    public ParticipationRequestPage getEventParticipationRequestsPage(@PathVariable Long userId,
+                                                                      @PathVariable Long eventId,
+                                                                      @RequestParam(defaultValue = "0") @PositiveOrZero Long after,
+                                                                      @RequestParam(defaultValue = "100") @Positive Integer size) {
+        return requestClient.getRequestsPageForEventByOwner(userId, eventId, after, size);
+    }
+
+    @GetMapping("/{eventId}/requests/export")
+    public void exportEventParticipationRequests(@PathVariable Long userId,
+                                                 @PathVariable Long eventId,
+                                                 HttpServletResponse response) throws IOException {
+        try (Response upstream = requestClient.exportRequestsForEventByOwner(userId, eventId)) {
+            response.setStatus(upstream.status());
+            Collection<String> contentType = upstream.headers().get("Content-Type");
+            if (contentType != null && !contentType.isEmpty()) {
+                response.setContentType(contentType.iterator().next());
+            }
+            if (upstream.body() != null) {
+                try (InputStream body = upstream.body().asInputStream()) {
+                    body.transferTo(response.getOutputStream());
+                }
+            }
+            response.flushBuffer();
+        }
+    }
+
     @PatchMapping("/{eventId}")
     public EventFullDto updateEvent(@PathVariable Long userId,
                                     @PathVariable Long eventId,
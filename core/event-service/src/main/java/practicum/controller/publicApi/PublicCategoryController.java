@@ -5,6 +5,7 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import practicum.model.dto.category.CategoryDto;
 import practicum.service.category.CategoryService;
 
@@ -20,13 +21,20 @@ public class PublicCategoryController {
     @GetMapping
     public ResponseEntity<List<CategoryDto>> getAllCategories(
             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size) {
+            @RequestParam(defaultValue = "10") @Positive int size,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoriesEtag(from, size))) {
+            return null;
+        }
         List<CategoryDto> categories = categoryService.getAllCategories(from, size);
         return ResponseEntity.ok(categories);
     }
 
     @GetMapping("/{catId}")
-    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long catId) {
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long catId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoryEtag(catId))) {
+            return null;
+        }
         CategoryDto category = categoryService.getCategoryById(catId);
         return ResponseEntity.ok(category);
     }
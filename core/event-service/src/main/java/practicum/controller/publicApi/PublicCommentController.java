@@ -3,6 +3,7 @@ package practicum.controller.publicApi;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import practicum.model.dto.comment.CommentDto;
+import practicum.model.dto.comment.CommentPage;
 import practicum.service.comment.CommentService;
 
 import java.util.List;
@@ -18,4 +19,11 @@ public class PublicCommentController {
     public List<CommentDto> getCommentsByEvent(@PathVariable Long eventId) {
         return commentService.getCommentsByEvent(eventId);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/page")
+    public CommentPage getCommentsPageByEvent(@PathVariable Long eventId,
+                                              @RequestParam(required = false) String after,
+                                              @RequestParam(defaultValue = "100") Integer size) {
+        return commentService.getCommentsPageByEvent(eventId, after, size);
+    }
+}
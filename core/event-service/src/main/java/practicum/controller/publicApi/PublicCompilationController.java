@@ -5,6 +5,7 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import practicum.model.dto.compilation.CompilationDto;
 import practicum.service.compilation.CompilationService;
 
@@ -21,13 +22,20 @@ public class PublicCompilationController {
     public ResponseEntity<List<CompilationDto>> getAllCompilations(
             @RequestParam(required = false) Boolean pinned,
             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size) {
+            @RequestParam(defaultValue = "10") @Positive int size,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(compilationService.getCompilationsEtag(pinned, from, size))) {
+            return null;
+        }
         List<CompilationDto> compilations = compilationService.getAllCompilations(pinned, from, size);
         return ResponseEntity.ok(compilations);
     }
 
     @GetMapping("/{compId}")
-    public ResponseEntity<CompilationDto> getCompilationById(@PathVariable Long compId) {
+    public ResponseEntity<CompilationDto> getCompilationById(@PathVariable Long compId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(compilationService.getCompilationEtag(compId))) {
+            return null;
+        }
         CompilationDto compilation = compilationService.getCompilationById(compId);
         return ResponseEntity.ok(compilation);
     }
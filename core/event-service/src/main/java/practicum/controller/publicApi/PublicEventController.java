@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import practicum.model.dto.event.EventFullDto;
 import practicum.model.dto.event.EventShortDto;
 import practicum.model.enums.SortValue;
@@ -43,7 +44,11 @@ public class PublicEventController {
     }
 
     @GetMapping("/{id}")
-    public EventFullDto getEvent(@PathVariable Long id, HttpServletRequest request) {
-        return eventService.getEvent(id, request);
+    public EventFullDto getEvent(@PathVariable Long id, HttpServletRequest request, WebRequest webRequest) {
+        EventFullDto event = eventService.getEvent(id, request);
+        if (webRequest.checkNotModified(eventService.getEventEtag(event))) {
+            return null;
+        }
+        return event;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package practicum.exceptionHandler;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +49,16 @@ public class ErrorHandler {
         return ResponseEntity.status(status).body(error);
     }
 
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ApiError> handleDependencyUnavailable(final RuntimeException exception) {
+        log.warn("Dependency unavailable: {}", exception.getMessage());
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiError error = ApiError.builder(status, "Dependent service is unavailable.")
+                .message(exception.getMessage())
+                .build();
+        return buildResponseEntity(error, status);
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiError> handleException(final Exception exception) {
         logError(exception);
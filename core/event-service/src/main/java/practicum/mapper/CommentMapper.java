@@ -25,6 +25,20 @@ public final class CommentMapper {
                 .build();
     }
 
+    public static CommentDto toCommentDto(Comment comment, UserShortDto author) {
+        if (comment == null) {
+            return null;
+        }
+
+        return CommentDto.builder()
+                .id(comment.getId())
+                .text(comment.getText())
+                .eventId(comment.getEvent().getId())
+                .author(author)
+                .createdOn(comment.getCreatedOn())
+                .build();
+    }
+
     public static Comment toComment(NewCommentDto newCommentDto) {
         if (newCommentDto == null) {
             return null;
@@ -1,6 +1,7 @@
 package practicum.mapper;
 
 import practicum.model.Compilation;
+import practicum.model.dto.category.CategoryDto;
 import practicum.model.dto.compilation.CompilationDto;
 import practicum.model.dto.event.EventShortDto;
 
@@ -15,14 +16,14 @@ public final class CompilationMapper {
     private CompilationMapper() {
     }
 
-    public static CompilationDto toCompilationDto(Compilation compilation, Map<Long, Long> confirmedRequestsCounts) {
+    public static CompilationDto toCompilationDto(Compilation compilation, Map<Long, CategoryDto> categories) {
         if (Objects.isNull(compilation)) return null;
 
         Set<EventShortDto> eventShortDtos = Collections.emptySet();
 
         if (Objects.nonNull(compilation.getEvents()) && !compilation.getEvents().isEmpty()) {
             eventShortDtos = compilation.getEvents().stream()
-                    .map(EventMapper::toEventShortDto)
+                    .map(event -> EventMapper.toEventShortDto(event, categories))
                     .collect(Collectors.toSet());
         }
 
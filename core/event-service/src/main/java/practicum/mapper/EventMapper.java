@@ -1,5 +1,6 @@
 package practicum.mapper;
 
+import practicum.model.dto.category.CategoryDto;
 import practicum.model.dto.event.EventFullDto;
 import practicum.model.dto.event.EventShortDto;
 import practicum.model.dto.event.NewEventDto;
@@ -12,6 +13,7 @@ import practicum.model.Location;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -40,49 +42,68 @@ public final class EventMapper {
                 .publishedOn(null)
                 .views(0L)
                 .confirmedRequests(0L)
+                .commentsCount(0L)
                 .build();
     }
 
     public static EventShortDto toEventShortDto(Event event) {
+        return toEventShortDto(event, Map.of());
+    }
+
+    public static EventShortDto toEventShortDto(Event event, Map<Long, CategoryDto> categories) {
         if (Objects.isNull(event)) return null;
 
         return new EventShortDto(
                 event.getId(),
                 event.getAnnotation(),
-                CategoryMapper.toCategoryDto(event.getCategory()),
+                resolveCategory(event, categories),
                 event.getEventDate(),
                 event.getInitiator(),
                 event.getPaid(),
                 event.getTitle(),
                 event.getViews(),
                 event.getConfirmedRequests(),
-                event.getParticipantLimit()
+                event.getParticipantLimit(),
+                event.getCommentsCount()
         );
     }
 
     public static Set<EventShortDto> toEventShortDtoSet(Set<Event> events) {
+        return toEventShortDtoSet(events, Map.of());
+    }
+
+    public static Set<EventShortDto> toEventShortDtoSet(Set<Event> events, Map<Long, CategoryDto> categories) {
         if (Objects.isNull(events) || events.isEmpty()) return Collections.emptySet();
 
         return events.stream()
-                .map(EventMapper::toEventShortDto)
+                .map(event -> toEventShortDto(event, categories))
                 .collect(Collectors.toSet());
     }
 
     public static List<EventShortDto> toEventShortDtoList(List<Event> events) {
+        return toEventShortDtoList(events, Map.of());
+    }
+
+    public static List<EventShortDto> toEventShortDtoList(List<Event> events, Map<Long, CategoryDto> categories) {
         if (Objects.isNull(events) || events.isEmpty()) return Collections.emptyList();
 
         return events.stream()
-                .map(EventMapper::toEventShortDto)
+                .map(event -> toEventShortDto(event, categories))
                 .collect(Collectors.toList());
     }
 
     public static EventFullDto toFullEventDto(Event event, long confirmedRequestsCount) {
+        return toFullEventDto(event, confirmedRequestsCount, Map.of());
+    }
+
+    public static EventFullDto toFullEventDto(Event event, long confirmedRequestsCount,
+                                              Map<Long, CategoryDto> categories) {
         if (Objects.isNull(event)) return null;
 
         return new EventFullDto(
                 event.getId(),
                 event.getAnnotation(),
-                CategoryMapper.toCategoryDto(event.getCategory()),
+                resolveCategory(event, categories),
                 confirmedRequestsCount,
                 event.getCreatedOn(),
                 event.getDescription(),
@@ -95,15 +116,21 @@ public final class EventMapper {
                 event.getRequestModeration(),
                 event.getState(),
                 event.getTitle(),
-                event.getViews()
+                event.getViews(),
+                event.getCommentsCount()
         );
     }
 
     public static EventFullDto toFullEventDto(Event event) {
+        return toFullEventDto(event, Map.of());
+    }
+
+    public static EventFullDto toFullEventDto(Event event, Map<Long, CategoryDto> categories) {
         if (Objects.isNull(event)) return null;
         return toFullEventDto(event, Objects.nonNull(event.getConfirmedRequests())
                 ? event.getConfirmedRequests()
-                : 0L
+                : 0L,
+                categories
         );
     }
 
@@ -114,4 +141,11 @@ public final class EventMapper {
                 .map(EventMapper::toFullEventDto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private static CategoryDto resolveCategory(Event event, Map<Long, CategoryDto> categories) {
+        if (Objects.isNull(event.getCategory())) return null;
+
+        CategoryDto category = categories.get(event.getCategory().getId());
+        return Objects.nonNull(category) ? category : CategoryMapper.toCategoryDto(event.getCategory());
+    }
+}
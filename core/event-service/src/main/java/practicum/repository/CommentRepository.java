@@ -2,12 +2,37 @@ package practicum.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import practicum.model.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByEvent_Id(Long eventId);
 
     List<Comment> findAllByAuthor_Id(Long userId);
-}
\ No newline at end of file
+
+    @Query(value = """
+            SELECT *
+            FROM comments
+            WHERE event_id = :eventId
+            ORDER BY created_on, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Comment> findFirstPageByEvent(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT *
+            FROM comments
+            WHERE event_id = :eventId
+              AND (created_on, id) > (:createdOn, :id)
+            ORDER BY created_on, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Comment> findPageByEventAfter(@Param("eventId") Long eventId,
+                                       @Param("createdOn") LocalDateTime createdOn,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
+}
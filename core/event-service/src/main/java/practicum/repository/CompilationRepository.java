@@ -3,8 +3,33 @@ package practicum.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import practicum.model.Compilation;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CompilationRepository extends JpaRepository<Compilation, Long> {
     Page<Compilation> findAllByPinned(Boolean pinned, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT c.id FROM Compilation c WHERE c.pinned = :pinned ORDER BY c.id")
+    List<Long> findIdsByPinned(@Param("pinned") Boolean pinned, Pageable pageable);
+
+    @Query("SELECT c.id FROM Compilation c ORDER BY c.id")
+    List<Long> findIds(Pageable pageable);
+
+    @Query("SELECT DISTINCT c FROM Compilation c " +
+            "LEFT JOIN FETCH c.events e " +
+            "LEFT JOIN FETCH e.location " +
+            "WHERE c.id IN :ids")
+    List<Compilation> findAllWithEventsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT CONCAT(CAST(c.id AS String), ':', CAST(c.version AS String), ':', " +
+            "COALESCE(CAST(e.id AS String), '-'), ':', COALESCE(CAST(e.version AS String), '-'), ':', " +
+            "COALESCE(CAST(e.confirmedRequests AS String), '-'), ':', COALESCE(CAST(e.commentsCount AS String), '-')) " +
+            "FROM Compilation c " +
+            "LEFT JOIN c.events e " +
+            "WHERE c.id IN :ids")
+    List<String> findVersionStampsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import practicum.model.Event;
 import practicum.model.enums.EventState;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,7 +17,6 @@ import java.util.Set;
 public interface EventRepository extends JpaRepository<Event, Long> {
 
     @Query("SELECT e FROM Event e " +
-            "JOIN FETCH e.category " +
             "WHERE (:text IS NULL OR (LOWER(e.annotation) LIKE LOWER(CONCAT('%', :text, '%')) " +
             "OR LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%')))) " +
             "AND (:categories IS NULL OR e.category.id IN :categories) " +
@@ -42,12 +43,47 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             """)
     void incrementViews(@Param("eventId") Long eventId);
 
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.commentsCount = e.commentsCount + :delta
+            WHERE e.id = :eventId
+            """)
+    int addToCommentsCount(@Param("eventId") Long eventId, @Param("delta") long delta);
+
     boolean existsByCategoryId(Long categoryId);
 
+    @Query(value = """
+            UPDATE events
+            SET state = 'PUBLISHED', published_on = :publishedOn, version = version + 1
+            WHERE id IN (:ids) AND state = 'PENDING'
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> publishPending(@Param("ids") Collection<Long> ids, @Param("publishedOn") LocalDateTime publishedOn);
+
+    @Query(value = """
+            UPDATE events
+            SET state = 'CANCELED', version = version + 1
+            WHERE id IN (:ids) AND state <> 'PUBLISHED'
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> rejectUnpublished(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.id FROM Event e")
+    List<Long> findAllIds();
+
     @Modifying
     @Query("UPDATE Event e " +
             "SET e.confirmedRequests = :confirmedRequests " +
             "WHERE e.id = :eventId")
-    void updateConfirmedRequests(@Param("eventId") Long eventId,
-                                 @Param("confirmedRequests") Long confirmedRequests);
+    int updateConfirmedRequests(@Param("eventId") Long eventId,
+                                @Param("confirmedRequests") Long confirmedRequests);
+
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.confirmedRequests = e.confirmedRequests + :delta
+            WHERE e.id = :eventId
+            """)
+    int addToConfirmedRequests(@Param("eventId") Long eventId, @Param("delta") long delta);
 }
\ No newline at end of file
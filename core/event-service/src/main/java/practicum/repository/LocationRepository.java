@@ -1,12 +1,26 @@
 package practicum.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import practicum.model.Location;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LocationRepository extends JpaRepository<Location, Long> {
 
     Optional<Location> findByLatAndLon(BigDecimal lat, BigDecimal lon);
-}
\ No newline at end of file
+
+    List<Location> findAllByLatIn(Collection<BigDecimal> lats);
+
+    @Query(value = """
+            INSERT INTO locations (id, lat, lon)
+            VALUES (nextval('locations_seq'), :lat, :lon)
+            ON CONFLICT (lat, lon) DO UPDATE SET lat = EXCLUDED.lat
+            RETURNING id
+            """, nativeQuery = true)
+    Long upsert(@Param("lat") BigDecimal lat, @Param("lon") BigDecimal lon);
+}
@@ -0,0 +1,136 @@
+package practicum.service.category;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.mapper.CategoryMapper;
+import practicum.model.dto.category.CategoryDto;
+import practicum.repository.CategoryRepository;
+import practicum.service.edge.Etags;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CategoryDictionary {
+
+    private final CategoryRepository categoryRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Contents contents;
+
+    public CategoryDictionary(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${category-dictionary.refresh-ms:60000}",
+            fixedDelayString = "${category-dictionary.refresh-ms:60000}")
+    public void reload() {
+        lock.lock();
+        try {
+            Map<Long, CategoryDto> loaded = Collections.unmodifiableMap(categoryRepository.findAll().stream()
+                    .map(CategoryMapper::toCategoryDto)
+                    .collect(Collectors.toMap(CategoryDto::getId, Function.identity(),
+                            (first, second) -> first, LinkedHashMap::new)));
+            if (contents == null || !loaded.equals(contents.categories())) {
+                contents = Contents.of(loaded);
+            }
+            log.debug("Справочник категорий загружен: {} записей", loaded.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<Long, CategoryDto> snapshot() {
+        return contents().categories();
+    }
+
+    // Хэш содержимого справочника: одинаков на всех экземплярах с одинаковыми данными, в отличие от счётчика изменений
+    public String fingerprint() {
+        return contents().fingerprint();
+    }
+
+    public Optional<CategoryDto> find(Long catId) {
+        CategoryDto category = snapshot().get(catId);
+        if (category != null) {
+            return Optional.of(category);
+        }
+        Optional<CategoryDto> loaded = categoryRepository.findById(catId).map(CategoryMapper::toCategoryDto);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public List<CategoryDto> findAll() {
+        return snapshot().values().stream()
+                .sorted(Comparator.comparing(CategoryDto::getId))
+                .collect(Collectors.toList());
+    }
+
+    public void putAfterCommit(CategoryDto category) {
+        afterCommit(() -> put(category));
+    }
+
+    public void removeAfterCommit(Long catId) {
+        afterCommit(() -> remove(catId));
+    }
+
+    private void put(CategoryDto category) {
+        lock.lock();
+        try {
+            Map<Long, CategoryDto> copy = new LinkedHashMap<>(snapshot());
+            copy.put(category.getId(), category);
+            contents = Contents.of(Collections.unmodifiableMap(copy));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Long catId) {
+        lock.lock();
+        try {
+            Map<Long, CategoryDto> copy = new LinkedHashMap<>(snapshot());
+            copy.remove(catId);
+            contents = Contents.of(Collections.unmodifiableMap(copy));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Contents contents() {
+        Contents current = contents;
+        if (current == null) {
+            reload();
+            current = contents;
+        }
+        return current;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Contents(Map<Long, CategoryDto> categories, String fingerprint) {
+        static Contents of(Map<Long, CategoryDto> categories) {
+            return new Contents(categories, Etags.of(categories.values().stream()
+                    .sorted(Comparator.comparing(CategoryDto::getId))
+                    .map(category -> category.getId() + ":" + category.getName())
+                    .toArray()));
+        }
+    }
+}
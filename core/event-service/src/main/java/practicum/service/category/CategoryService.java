@@ -15,4 +15,8 @@ public interface CategoryService {
     List<CategoryDto> getAllCategories(int from, int size);
 
     CategoryDto getCategoryById(Long catId);
+
+    String getCategoryEtag(Long catId);
+
+    String getCategoriesEtag(int from, int size);
 }
\ No newline at end of file
@@ -2,17 +2,20 @@ package practicum.service.category;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import practicum.exception.ConflictException;
 import practicum.exception.NotFoundException;
 import practicum.mapper.CategoryMapper;
+import practicum.metrics.HotPath;
 import practicum.model.Category;
 import practicum.model.dto.category.CategoryDto;
 import practicum.model.dto.category.NewCategoryDto;
 import practicum.repository.CategoryRepository;
 import practicum.repository.EventRepository;
+import practicum.service.compilation.CompilationCache;
+import practicum.service.edge.EdgeCachePurger;
+import practicum.service.edge.Etags;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +28,9 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final EventRepository eventRepository;
+    private final CompilationCache compilationCache;
+    private final CategoryDictionary categoryDictionary;
+    private final EdgeCachePurger edgeCachePurger;
 
     @Override
     @Transactional
@@ -41,8 +47,12 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = CategoryMapper.toCategory(newCategoryDto);
         Category savedCategory = categoryRepository.save(category);
 
+        CategoryDto savedDto = CategoryMapper.toCategoryDto(savedCategory);
+        categoryDictionary.putAfterCommit(savedDto);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.CATEGORIES);
+
         log.info("Категория с ID={} успешно создана", savedCategory.getId());
-        return CategoryMapper.toCategoryDto(savedCategory);
+        return savedDto;
     }
 
     @Override
@@ -56,6 +66,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.deleteById(catId);
+        categoryDictionary.removeAfterCommit(catId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.CATEGORIES);
         log.info("Категория с ID={} успешно удалена", catId);
     }
 
@@ -81,25 +93,44 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryToUpdate.setName(newName);
         Category savedCategory = categoryRepository.save(categoryToUpdate);
+        CategoryDto savedDto = CategoryMapper.toCategoryDto(savedCategory);
+        categoryDictionary.putAfterCommit(savedDto);
+        compilationCache.evictAll();
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.CATEGORIES, EdgeCachePurger.EVENTS, EdgeCachePurger.COMPILATIONS);
 
         log.info("Категория с ID={} успешно обновлена", savedCategory.getId());
-        return CategoryMapper.toCategoryDto(savedCategory);
+        return savedDto;
     }
 
     @Override
+    @HotPath
     public List<CategoryDto> getAllCategories(int from, int size) {
         log.info("Получение всех категорий. Страница: {}, размер: {}", from / size, size);
-        PageRequest page = PageRequest.of(from / size, size);
-        return categoryRepository.findAll(page).stream()
-                .map(CategoryMapper::toCategoryDto)
+        return categoryDictionary.findAll().stream()
+                .skip((long) (from / size) * size)
+                .limit(size)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @HotPath
     public CategoryDto getCategoryById(Long catId) {
         log.info("Получение категории с ID={}", catId);
-        Category category = categoryRepository.findById(catId)
+        return categoryDictionary.find(catId)
+                .orElseThrow(() -> new NotFoundException("Категория с ID=" + catId + " не найдена."));
+    }
+
+    @Override
+    @HotPath
+    public String getCategoryEtag(Long catId) {
+        return categoryDictionary.find(catId)
+                .map(category -> Etags.of("category", category.getId(), category.getName()))
                 .orElseThrow(() -> new NotFoundException("Категория с ID=" + catId + " не найдена."));
-        return CategoryMapper.toCategoryDto(category);
     }
-}
\ No newline at end of file
+
+    @Override
+    @HotPath
+    public String getCategoriesEtag(int from, int size) {
+        return Etags.of("categories", from, size, categoryDictionary.fingerprint());
+    }
+}
@@ -1,6 +1,7 @@
 package practicum.service.comment;
 
 import practicum.model.dto.comment.CommentDto;
+import practicum.model.dto.comment.CommentPage;
 import practicum.model.dto.comment.NewCommentDto;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public interface CommentService {
 
     List<CommentDto> getCommentsByEvent(Long eventId);
 
+    CommentPage getCommentsPageByEvent(Long eventId, String after, int size);
+
     List<CommentDto> getCommentsByUser(Long userId);
 
     void deleteComment(Long userId, Long commentId);
@@ -4,22 +4,28 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import practicum.client.UserClient;
+import practicum.client.UserLookup;
 import practicum.exception.NotFoundException;
 import practicum.exception.ValidationException;
 import practicum.mapper.CommentMapper;
+import practicum.metrics.HotPath;
 import practicum.model.Comment;
-import practicum.model.Event;
 import practicum.model.User;
 import practicum.model.dto.comment.CommentDto;
+import practicum.model.dto.comment.CommentPage;
 import practicum.model.dto.comment.NewCommentDto;
 import practicum.model.dto.user.UserDto;
+import practicum.model.dto.user.UserShortDto;
 import practicum.repository.CommentRepository;
 import practicum.repository.EventRepository;
+import practicum.service.compilation.CompilationCache;
+import practicum.service.edge.EdgeCachePurger;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,37 +35,70 @@ import java.util.stream.Collectors;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserClient userClient;
+    private final UserLookup userLookup;
     private final EventRepository eventRepository;
+    private final CommentThreadCache commentThreadCache;
+    private final CompilationCache compilationCache;
+    private final EdgeCachePurger edgeCachePurger;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String CURSOR_SEPARATOR = "_";
 
     @Override
     @Transactional
     public CommentDto addComment(Long userId, Long eventId, NewCommentDto newCommentDto) {
         User author = loadUserEntity(userId);
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new NotFoundException("Событие с id=" + eventId + " не найдено"));
+        if (eventRepository.addToCommentsCount(eventId, 1) == 0) {
+            throw new NotFoundException("Событие с id=" + eventId + " не найдено");
+        }
 
         Comment comment = CommentMapper.toComment(newCommentDto);
         comment.setAuthor(author);
-        comment.setEvent(event);
+        comment.setEvent(eventRepository.getReferenceById(eventId));
         comment.setCreatedOn(LocalDateTime.now());
 
-        return CommentMapper.toCommentDto(commentRepository.save(comment));
+        CommentDto saved = CommentMapper.toCommentDto(commentRepository.save(comment));
+        commentThreadCache.evict(eventId);
+        compilationCache.evictByEvent(eventId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.eventComments(eventId));
+        return saved;
     }
 
     @Override
+    @HotPath
     public List<CommentDto> getCommentsByEvent(Long eventId) {
-        return commentRepository.findAllByEvent_Id(eventId).stream()
-                .map(CommentMapper::toCommentDto)
-                .collect(Collectors.toList());
+        return toCommentDtoList(commentRepository.findAllByEvent_Id(eventId));
+    }
+
+    @Override
+    @HotPath
+    public CommentPage getCommentsPageByEvent(Long eventId, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        if (after == null || after.isBlank()) {
+            CommentPage cached = commentThreadCache.getFirstPage(eventId, pageSize);
+            if (cached != null) {
+                return cached;
+            }
+            CommentPage page = toPage(commentRepository.findFirstPageByEvent(eventId, pageSize), pageSize);
+            commentThreadCache.putFirstPage(eventId, pageSize, page);
+            return page;
+        }
+
+        int separator = after.lastIndexOf(CURSOR_SEPARATOR);
+        try {
+            LocalDateTime createdOn = LocalDateTime.parse(after.substring(0, separator));
+            Long id = Long.parseLong(after.substring(separator + 1));
+            return toPage(commentRepository.findPageByEventAfter(eventId, createdOn, id, pageSize), pageSize);
+        } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+            throw new ValidationException("Некорректный курсор страницы комментариев: " + after);
+        }
     }
 
     @Override
     public List<CommentDto> getCommentsByUser(Long userId) {
-        return commentRepository.findAllByAuthor_Id(userId).stream()
-                .map(CommentMapper::toCommentDto)
-                .collect(Collectors.toList());
+        return toCommentDtoList(commentRepository.findAllByAuthor_Id(userId));
     }
 
     @Override
@@ -70,12 +109,41 @@ public class CommentServiceImpl implements CommentService {
         if (!comment.getAuthor().getId().equals(userId)) {
             throw new ValidationException("Пользователь с id=" + userId + " не является автором комментария с id=" + commentId);
         }
+        Long eventId = comment.getEvent().getId();
         commentRepository.delete(comment);
+        eventRepository.addToCommentsCount(eventId, -1);
+        commentThreadCache.evict(eventId);
+        compilationCache.evictByEvent(eventId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.eventComments(eventId));
+    }
+
+    private CommentPage toPage(List<Comment> comments, int size) {
+        String nextCursor = null;
+        if (comments.size() >= size) {
+            Comment last = comments.getLast();
+            nextCursor = last.getCreatedOn() + CURSOR_SEPARATOR + last.getId();
+        }
+        return new CommentPage(toCommentDtoList(comments), nextCursor);
+    }
+
+    private List<CommentDto> toCommentDtoList(List<Comment> comments) {
+        Set<Long> authorIds = comments.stream()
+                .map(comment -> comment.getAuthor().getId())
+                .collect(Collectors.toSet());
+        Map<Long, UserDto> authors = authorIds.isEmpty() ? Map.of() : userLookup.findUsers(authorIds);
+
+        return comments.stream()
+                .map(comment -> {
+                    Long authorId = comment.getAuthor().getId();
+                    UserDto author = authors.get(authorId);
+                    return CommentMapper.toCommentDto(comment,
+                            new UserShortDto(authorId, author != null ? author.getName() : null));
+                })
+                .collect(Collectors.toList());
     }
 
     private User loadUserEntity(Long userId) {
-        UserDto dto = userClient.getUsers(List.of(userId)).stream()
-                .findFirst()
+        UserDto dto = userLookup.findUser(userId)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id=" + userId + " не найден"));
 
         return User.builder()
@@ -0,0 +1,81 @@
+package practicum.service.comment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.model.dto.comment.CommentPage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class CommentThreadCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<ThreadKey, CachedPage> firstPages;
+
+    public CommentThreadCache(@Value("${comment-cache.enabled:true}") boolean enabled,
+                              @Value("${comment-cache.max-size:1000}") int maxSize,
+                              @Value("${comment-cache.ttl-ms:30000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.firstPages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ThreadKey, CachedPage> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public CommentPage getFirstPage(Long eventId, int size) {
+        if (!enabled) {
+            return null;
+        }
+        ThreadKey key = new ThreadKey(eventId, size);
+        CachedPage cached = firstPages.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            firstPages.remove(key);
+            return null;
+        }
+        return cached.page();
+    }
+
+    public void putFirstPage(Long eventId, int size, CommentPage page) {
+        if (enabled && page.getNextCursor() != null) {
+            firstPages.put(new ThreadKey(eventId, size), new CachedPage(page, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public void evict(Long eventId) {
+        if (!enabled) {
+            return;
+        }
+        Runnable eviction = () -> {
+            synchronized (firstPages) {
+                firstPages.keySet().removeIf(key -> key.eventId().equals(eventId));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private record ThreadKey(Long eventId, int size) {
+    }
+
+    private record CachedPage(CommentPage page, long expiresAt) {
+    }
+}
@@ -0,0 +1,154 @@
+package practicum.service.compilation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.model.dto.compilation.CompilationDto;
+import practicum.model.dto.event.EventShortDto;
+
+import java.util.*;
+
+@Component
+public class CompilationCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<Long, CachedCompilation> compilations;
+    private final Map<PageKey, CachedPage> pages;
+
+    public CompilationCache(@Value("${compilation-cache.enabled:true}") boolean enabled,
+                            @Value("${compilation-cache.max-size:1000}") int maxSize,
+                            @Value("${compilation-cache.ttl-ms:60000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.compilations = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedCompilation> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.pages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public CompilationDto get(Long compId) {
+        if (!enabled) {
+            return null;
+        }
+        CachedCompilation cached = compilations.get(compId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            compilations.remove(compId);
+            return null;
+        }
+        return cached.compilation();
+    }
+
+    public void put(CompilationDto compilation) {
+        if (enabled && !isInWriteTransaction()) {
+            compilations.put(compilation.getId(),
+                    new CachedCompilation(compilation, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public List<Long> getPage(Boolean pinned, int from, int size) {
+        if (!enabled) {
+            return null;
+        }
+        PageKey key = new PageKey(pinned, from, size);
+        CachedPage cached = pages.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            pages.remove(key);
+            return null;
+        }
+        return cached.compilationIds();
+    }
+
+    public void putPage(Boolean pinned, int from, int size, List<Long> compilationIds) {
+        if (enabled && !isInWriteTransaction()) {
+            pages.put(new PageKey(pinned, from, size),
+                    new CachedPage(List.copyOf(compilationIds), System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public void evictCompilation(Long compId) {
+        afterCommit(() -> {
+            compilations.remove(compId);
+            pages.clear();
+        });
+    }
+
+    public void evictByEvent(Long eventId) {
+        evictByEvents(Set.of(eventId));
+    }
+
+    public void evictByEvents(Set<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (compilations) {
+                compilations.values().removeIf(cached -> containsAnyEvent(cached.compilation(), eventIds));
+            }
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            compilations.clear();
+            pages.clear();
+        });
+    }
+
+    private boolean containsAnyEvent(CompilationDto compilation, Set<Long> eventIds) {
+        if (compilation.getEvents() == null) {
+            return false;
+        }
+        for (EventShortDto event : compilation.getEvents()) {
+            if (eventIds.contains(event.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private record PageKey(Boolean pinned, int from, int size) {
+    }
+
+    private record CachedCompilation(CompilationDto compilation, long expiresAt) {
+    }
+
+    private record CachedPage(List<Long> compilationIds, long expiresAt) {
+    }
+}
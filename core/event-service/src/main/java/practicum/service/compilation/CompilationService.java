@@ -16,4 +16,8 @@ public interface CompilationService {
     List<CompilationDto> getAllCompilations(Boolean pinned, int from, int size);
 
     CompilationDto getCompilationById(Long compId);
+
+    String getCompilationEtag(Long compId);
+
+    String getCompilationsEtag(Boolean pinned, int from, int size);
 }
\ No newline at end of file
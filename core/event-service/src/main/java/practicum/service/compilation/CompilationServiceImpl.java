@@ -4,16 +4,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import practicum.client.RequestClient;
 import practicum.exception.NotFoundException;
 import practicum.mapper.CompilationMapper;
+import practicum.metrics.HotPath;
 import practicum.model.Compilation;
 import practicum.model.Event;
+import practicum.model.dto.category.CategoryDto;
 import practicum.model.dto.compilation.CompilationDto;
 import practicum.model.dto.compilation.NewCompilationDto;
 import practicum.model.dto.compilation.UpdateCompilationRequest;
 import practicum.repository.CompilationRepository;
 import practicum.repository.EventRepository;
+import practicum.service.category.CategoryDictionary;
+import practicum.service.edge.EdgeCachePurger;
+import practicum.service.edge.Etags;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -25,39 +29,49 @@ public class CompilationServiceImpl implements CompilationService {
 
     private final CompilationRepository compilationRepository;
     private final EventRepository eventRepository;
-    private final RequestClient requestClient;
+    private final CompilationCache compilationCache;
+    private final CategoryDictionary categoryDictionary;
+    private final EdgeCachePurger edgeCachePurger;
 
     @Override
+    @HotPath
     public List<CompilationDto> getAllCompilations(Boolean pinned, int from, int size) {
-        PageRequest pageRequest = PageRequest.of(from / size, size);
-
-        List<Compilation> compilations = (pinned != null)
-                ? compilationRepository.findAllByPinned(pinned, pageRequest).getContent()
-                : compilationRepository.findAll(pageRequest).getContent();
-
-        Set<Long> eventIds = compilations.stream()
-                .flatMap(c -> c.getEvents().stream())
-                .map(Event::getId)
-                .collect(Collectors.toSet());
+        List<Long> compilationIds = findPageIds(pinned, from, size);
+
+        Map<Long, CompilationDto> rendered = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long compId : compilationIds) {
+            CompilationDto cached = compilationCache.get(compId);
+            if (cached != null) {
+                rendered.put(compId, cached);
+            } else {
+                misses.add(compId);
+            }
+        }
 
-        Map<Long, Long> confirmedCounts = getConfirmedRequestsCounts(eventIds);
+        if (!misses.isEmpty()) {
+            rendered.putAll(renderCompilations(compilationRepository.findAllWithEventsByIdIn(misses)));
+        }
 
-        return compilations.stream()
-                .map(c -> CompilationMapper.toCompilationDto(c, confirmedCounts))
+        return compilationIds.stream()
+                .map(rendered::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @HotPath
     public CompilationDto getCompilationById(Long compId) {
-        Compilation compilation = findCompilationOrThrow(compId);
-
-        Set<Long> eventIds = compilation.getEvents().stream()
-                .map(Event::getId)
-                .collect(Collectors.toSet());
-
-        Map<Long, Long> confirmedCounts = getConfirmedRequestsCounts(eventIds);
+        CompilationDto cached = compilationCache.get(compId);
+        if (cached != null) {
+            return cached;
+        }
 
-        return CompilationMapper.toCompilationDto(compilation, confirmedCounts);
+        List<Compilation> compilations = compilationRepository.findAllWithEventsByIdIn(List.of(compId));
+        if (compilations.isEmpty()) {
+            throw new NotFoundException("Подборка с ID=" + compId + " не найдена.");
+        }
+        return renderCompilations(compilations).get(compId);
     }
 
     @Override
@@ -69,24 +83,23 @@ public class CompilationServiceImpl implements CompilationService {
                 null,
                 events,
                 newDto.getPinned(),
-                newDto.getTitle()
+                newDto.getTitle(),
+                null
         );
 
         Compilation saved = compilationRepository.save(compilation);
+        compilationCache.evictCompilation(saved.getId());
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.COMPILATIONS);
 
-        Set<Long> savedEventIds = saved.getEvents().stream()
-                .map(Event::getId)
-                .collect(Collectors.toSet());
-
-        Map<Long, Long> confirmedCounts = getConfirmedRequestsCounts(savedEventIds);
-
-        return CompilationMapper.toCompilationDto(saved, confirmedCounts);
+        return CompilationMapper.toCompilationDto(saved, categoryDictionary.snapshot());
     }
 
     @Override
     @Transactional
     public void deleteCompilation(Long compId) {
         compilationRepository.deleteById(compId);
+        compilationCache.evictCompilation(compId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.COMPILATIONS);
     }
 
     @Override
@@ -109,14 +122,59 @@ public class CompilationServiceImpl implements CompilationService {
         }
 
         Compilation updated = compilationRepository.save(compilation);
+        compilationCache.evictCompilation(compId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.COMPILATIONS);
+
+        return CompilationMapper.toCompilationDto(updated, categoryDictionary.snapshot());
+    }
+
+    @Override
+    @HotPath
+    public String getCompilationEtag(Long compId) {
+        List<String> stamps = compilationRepository.findVersionStampsByIdIn(List.of(compId));
+        if (stamps.isEmpty()) {
+            throw new NotFoundException("Подборка с ID=" + compId + " не найдена.");
+        }
+        return Etags.of("compilation", compId, sorted(stamps), categoryDictionary.fingerprint());
+    }
 
-        Set<Long> updatedEventIds = updated.getEvents().stream()
-                .map(Event::getId)
-                .collect(Collectors.toSet());
+    @Override
+    @HotPath
+    public String getCompilationsEtag(Boolean pinned, int from, int size) {
+        List<Long> compilationIds = findPageIds(pinned, from, size);
+        List<String> stamps = compilationIds.isEmpty()
+                ? List.of()
+                : compilationRepository.findVersionStampsByIdIn(compilationIds);
+        return Etags.of("compilations", compilationIds, sorted(stamps), categoryDictionary.fingerprint());
+    }
+
+    private List<Long> findPageIds(Boolean pinned, int from, int size) {
+        List<Long> compilationIds = compilationCache.getPage(pinned, from, size);
+        if (compilationIds == null) {
+            PageRequest pageRequest = PageRequest.of(from / size, size);
+            compilationIds = (pinned != null)
+                    ? compilationRepository.findIdsByPinned(pinned, pageRequest)
+                    : compilationRepository.findIds(pageRequest);
+            compilationCache.putPage(pinned, from, size, compilationIds);
+        }
+        return compilationIds;
+    }
 
-        Map<Long, Long> confirmedCounts = getConfirmedRequestsCounts(updatedEventIds);
+    private static List<String> sorted(List<String> stamps) {
+        return stamps.stream().sorted().toList();
+    }
 
-        return CompilationMapper.toCompilationDto(updated, confirmedCounts);
+    // Карточки событий в подборке берут confirmedRequests из events.confirmed_requests, как и штампы версий
+    // для ETag подборки, поэтому рендеринг обходится без обращения к request-service.
+    private Map<Long, CompilationDto> renderCompilations(List<Compilation> compilations) {
+        Map<Long, CategoryDto> categories = categoryDictionary.snapshot();
+        Map<Long, CompilationDto> rendered = new HashMap<>();
+        for (Compilation compilation : compilations) {
+            CompilationDto dto = CompilationMapper.toCompilationDto(compilation, categories);
+            compilationCache.put(dto);
+            rendered.put(dto.getId(), dto);
+        }
+        return rendered;
     }
 
     private Compilation findCompilationOrThrow(Long compId) {
@@ -137,11 +195,4 @@ public class CompilationServiceImpl implements CompilationService {
 
         return events;
     }
-
-    private Map<Long, Long> getConfirmedRequestsCounts(Set<Long> eventIds) {
-        if (eventIds == null || eventIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        return requestClient.countConfirmedRequestsForEvents(eventIds);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package practicum.service.edge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.client.EdgeCacheClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class EdgeCachePurger implements DisposableBean {
+
+    public static final String EVENTS = "/events";
+    public static final String CATEGORIES = "/categories";
+    public static final String COMPILATIONS = "/compilations";
+
+    private final EdgeCacheClient edgeCacheClient;
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    public EdgeCachePurger(EdgeCacheClient edgeCacheClient,
+                           @Value("${edge-cache.purge.enabled:true}") boolean enabled) {
+        this.edgeCacheClient = edgeCacheClient;
+        this.enabled = enabled;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "edge-cache-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void purgeAfterCommit(String... prefixes) {
+        if (!enabled) {
+            return;
+        }
+        List<String> toPurge = List.of(prefixes);
+        Runnable purge = () -> executor.execute(() -> toPurge.forEach(this::purge));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    purge.run();
+                }
+            });
+        } else {
+            purge.run();
+        }
+    }
+
+    public static String eventComments(Long eventId) {
+        return EVENTS + "/" + eventId + "/comments";
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void purge(String prefix) {
+        try {
+            edgeCacheClient.purge(prefix);
+        } catch (RuntimeException e) {
+            log.warn("Не удалось сбросить кэш gateway по префиксу {}: {}", prefix, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package practicum.service.edge;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Actuator шлюза (в том числе edgecache) слушает отдельный внутренний порт, который Eureka
+// публикует в метаданных экземпляра как management.port. Конфигурация подключается только
+// к клиенту gateway-server через @LoadBalancerClient, поэтому класс без @Configuration.
+public class GatewayManagementLoadBalancerConfiguration {
+
+    private static final String MANAGEMENT_PORT = "management.port";
+
+    @Bean
+    public ServiceInstanceListSupplier gatewayManagementInstanceSupplier(ConfigurableApplicationContext context) {
+        return new ManagementPortInstanceListSupplier(ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withCaching()
+                .build(context));
+    }
+
+    private static class ManagementPortInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+        ManagementPortInstanceListSupplier(ServiceInstanceListSupplier delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<List<ServiceInstance>> get() {
+            return getDelegate().get().map(instances -> instances.stream()
+                    .map(ManagementPortInstanceListSupplier::toManagementInstance)
+                    .toList());
+        }
+
+        private static ServiceInstance toManagementInstance(ServiceInstance instance) {
+            String managementPort = instance.getMetadata().get(MANAGEMENT_PORT);
+            if (managementPort == null) {
+                return instance;
+            }
+            return new DefaultServiceInstance(instance.getInstanceId(), instance.getServiceId(), instance.getHost(),
+                    Integer.parseInt(managementPort), instance.isSecure(), instance.getMetadata());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package practicum.service.event;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import practicum.client.RequestClient;
+import practicum.model.Event;
+import practicum.model.enums.RequestStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Источник истины — счётчик request-service. Запасной events.confirmed_requests обновляется дельтами из
+// request-service и при сбое такого вызова может отставать, поэтому в фолбэке значение приблизительное.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmedRequestsResolver {
+
+    private final RequestClient requestClient;
+
+    public long resolve(Event event) {
+        try {
+            return requestClient.countEventsInStatus(event.getId(), RequestStatus.CONFIRMED);
+        } catch (FeignException.FeignClientException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("request-service недоступен, для события {} используется приблизительный сохранённый счётчик: {}",
+                    event.getId(), e.getMessage());
+            return event.getConfirmedRequests();
+        }
+    }
+
+    public Map<Long, Long> resolve(Collection<Event> events) {
+        if (events == null || events.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> eventIds = events.stream().map(Event::getId).collect(Collectors.toSet());
+        try {
+            return requestClient.countConfirmedRequestsForEvents(eventIds);
+        } catch (FeignException.FeignClientException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("request-service недоступен, для {} событий используются приблизительные сохранённые счётчики: {}",
+                    eventIds.size(), e.getMessage());
+            return events.stream().collect(Collectors.toMap(Event::getId, Event::getConfirmedRequests,
+                    (first, second) -> first));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package practicum.service.event;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import practicum.model.Event;
+import practicum.model.enums.EventState;
+import practicum.model.enums.SortValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EventSearchQueries {
+    private EventSearchQueries() {
+
+    }
+
+    public static CriteriaQuery<Event> publicSearch(CriteriaBuilder cb, String text, List<Long> categories,
+                                                    Boolean paid, LocalDateTime rangeStart,
+                                                    LocalDateTime rangeEnd, SortValue sort) {
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> eventRoot = query.from(Event.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (text != null && !text.isBlank()) {
+            predicates.add(cb.or(
+                    cb.like(cb.lower(eventRoot.get("annotation")), "%" + text.toLowerCase() + "%"),
+                    cb.like(cb.lower(eventRoot.get("description")), "%" + text.toLowerCase() + "%")
+            ));
+        }
+
+        if (categories != null && !categories.isEmpty()) {
+            predicates.add(eventRoot.get("category").get("id").in(categories));
+        }
+
+        if (paid != null) {
+            predicates.add(cb.equal(eventRoot.get("paid"), paid));
+        }
+
+        LocalDateTime startDateTime = (rangeStart != null) ? rangeStart : LocalDateTime.now();
+        predicates.add(cb.greaterThan(eventRoot.get("eventDate"), startDateTime));
+        if (rangeEnd != null) {
+            predicates.add(cb.lessThan(eventRoot.get("eventDate"), rangeEnd));
+        }
+
+        predicates.add(cb.equal(eventRoot.get("state"), EventState.PUBLISHED));
+
+        query.where(predicates.toArray(new Predicate[0]));
+
+        if (sort == SortValue.VIEWS) {
+            query.orderBy(cb.desc(eventRoot.get("views")));
+        } else {
+            query.orderBy(cb.desc(eventRoot.get("eventDate")));
+        }
+        return query;
+    }
+}
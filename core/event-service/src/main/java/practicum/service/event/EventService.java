@@ -17,6 +17,8 @@ public interface EventService {
     @Transactional
     EventFullDto createEvent(NewEventDto newEventDto, Long userId);
 
+    List<EventFullDto> createEvents(List<NewEventDto> newEventDtos, Long userId);
+
     Optional<EventFullDto> getEvent(Long eventId);
 
     EventRequestStatusUpdateResult updateParticipationRequestStatus(
@@ -27,6 +29,8 @@ public interface EventService {
 
     void updateConfirmedRequests(Long eventId, Long confirmedRequests);
 
+    void addConfirmedRequests(Long eventId, long delta);
+
     List<EventShortDto> getEvents(Long userId, Integer from, Integer size);
 
     EventFullDto getEventByUser(Long userId, Long eventId);
@@ -37,6 +41,8 @@ public interface EventService {
     @Transactional
     EventFullDto updateEventByAdmin(Long eventId, UpdateEventAdminRequest updateRequest);
 
+    List<EventModerationResult> moderateEvents(EventBatchModerationRequest request);
+
     List<EventShortDto> getEventsByUser(String text, List<Long> categories, Boolean paid,
                                         LocalDateTime rangeStart, LocalDateTime rangeEnd,
                                         Boolean onlyAvailable, SortValue sort,
@@ -45,13 +51,10 @@ public interface EventService {
     @Transactional(readOnly = true)
     EventFullDto getEvent(Long eventId, HttpServletRequest request);
 
+    String getEventEtag(EventFullDto event);
+
     List<EventFullDto> getEventsByAdmin(
             List<Long> users, List<EventState> states, List<Long> categories,
             LocalDateTime rangeStart, LocalDateTime rangeEnd, Integer from, Integer size
     );
-
-    List<EventShortDto> searchPublicEvents(String text, List<Long> categories, Boolean paid,
-                                           LocalDateTime rangeStart, LocalDateTime rangeEnd,
-                                           Boolean onlyAvailable, SortValue sort,
-                                           Integer from, Integer size, HttpServletRequest request);
 }
\ No newline at end of file
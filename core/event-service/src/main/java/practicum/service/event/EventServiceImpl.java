@@ -1,30 +1,37 @@
 package practicum.service.event;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import practicum.HitDto;
+import org.springframework.transaction.support.TransactionTemplate;
 import practicum.StatsClient;
 import practicum.ViewStatsDto;
 import practicum.client.RequestClient;
-import practicum.client.UserClient;
+import practicum.client.UserLookup;
 import practicum.exception.ConflictException;
 import practicum.exception.NotFoundException;
 import practicum.exception.ValidationException;
 import practicum.mapper.EventMapper;
-import practicum.mapper.LocationMapper;
+import practicum.metrics.HotPath;
+import practicum.metrics.MetricTags;
 import practicum.model.Category;
 import practicum.model.Event;
 import practicum.model.Location;
+import practicum.model.dto.category.CategoryDto;
 import practicum.model.dto.event.*;
 import practicum.model.dto.location.LocationDto;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
@@ -34,30 +41,51 @@ import practicum.model.dto.user.UserDto;
 import practicum.model.enums.*;
 import practicum.repository.CategoryRepository;
 import practicum.repository.EventRepository;
-import practicum.repository.LocationRepository;
+import practicum.service.category.CategoryDictionary;
+import practicum.service.compilation.CompilationCache;
+import practicum.service.edge.EdgeCachePurger;
+import practicum.service.edge.Etags;
+import practicum.service.filter.EventIdFilterService;
+import practicum.service.location.LocationResolver;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
-    @Value("${app.name:ewm-main-service}")
-    private String appName;
+    private static final String CRITERIA_QUERY_METRIC = "ewm.criteria.query";
+
+    @Value("${event-moderation.chunk-size:500}")
+    private int moderationChunkSize;
+
+    @Value("${event-import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${event-update.max-attempts:3}")
+    private int updateMaxAttempts;
 
     private final EventRepository eventRepository;
-    private final UserClient userClient;
+    private final UserLookup userLookup;
     private final CategoryRepository categoryRepository;
-    private final LocationRepository locationRepository;
+    private final LocationResolver locationResolver;
     private final RequestClient participationRequestClient;
     private final EntityManager entityManager;
     private final StatsClient statsClient;
+    private final HitSender hitSender;
+    private final ConfirmedRequestsResolver confirmedRequestsResolver;
+    private final MeterRegistry meterRegistry;
+    private final EventIdFilterService eventIdFilterService;
+    private final CompilationCache compilationCache;
+    private final CategoryDictionary categoryDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final EdgeCachePurger edgeCachePurger;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Override
@@ -66,20 +94,58 @@ public class EventServiceImpl implements EventService {
         validateEventDate(newEventDto.getEventDate(), 1);
 
         Optional<UserDto> userDto = findUserById(userId);
-        if (userDto.isEmpty()) new NotFoundException("Пользователь с ID=" + userId + " не найден.");
+        if (userDto.isEmpty()) throw new NotFoundException("Пользователь с ID=" + userId + " не найден.");
 
-        Category category = categoryRepository.findById(newEventDto.getCategory())
-                .orElseThrow(() -> new NotFoundException("Категория с ID=" + newEventDto.getCategory() + " не найдена."));
+        Category category = resolveCategory(newEventDto.getCategory());
 
         Location location = getLocation(newEventDto.getLocation());
         Event event = EventMapper.toEvent(newEventDto, category, userDto.get(), location);
 
-        return EventMapper.toFullEventDto(eventRepository.save(event));
+        Event savedEvent = eventRepository.save(event);
+        eventIdFilterService.register(savedEvent.getId());
+        return EventMapper.toFullEventDto(savedEvent, categoryDictionary.snapshot());
+    }
+
+    @Override
+    @Transactional
+    public List<EventFullDto> createEvents(List<NewEventDto> newEventDtos, Long userId) {
+        UserDto user = findUserById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователь с ID=" + userId + " не найден."));
+        newEventDtos.forEach(dto -> validateEventDate(dto.getEventDate(), 1));
+
+        Map<Long, Category> categories = new HashMap<>();
+        for (NewEventDto dto : newEventDtos) {
+            categories.computeIfAbsent(dto.getCategory(), this::resolveCategory);
+        }
+        List<Location> locations = locationResolver.resolveAll(newEventDtos.stream()
+                .map(NewEventDto::getLocation)
+                .toList());
+
+        List<Event> savedEvents = new ArrayList<>(newEventDtos.size());
+        for (int from = 0; from < newEventDtos.size(); from += importChunkSize) {
+            int to = Math.min(from + importChunkSize, newEventDtos.size());
+            List<Event> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                NewEventDto dto = newEventDtos.get(i);
+                chunk.add(EventMapper.toEvent(dto, categories.get(dto.getCategory()), user, locations.get(i)));
+            }
+            savedEvents.addAll(eventRepository.saveAll(chunk));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        eventIdFilterService.registerAll(savedEvents.stream().map(Event::getId).toList());
+        Map<Long, CategoryDto> categoryDtos = categoryDictionary.snapshot();
+        return savedEvents.stream()
+                .map(event -> EventMapper.toFullEventDto(event, categoryDtos))
+                .collect(Collectors.toList());
     }
 
     @Override
+    @HotPath
     public Optional<EventFullDto> getEvent(Long eventId) {
-        return eventRepository.findById(eventId).map(EventMapper::toFullEventDto);
+        return eventRepository.findById(eventId)
+                .map(event -> EventMapper.toFullEventDto(event, categoryDictionary.snapshot()));
     }
 
     @Override
@@ -101,10 +167,19 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional
     public void updateConfirmedRequests(Long eventId, Long confirmedRequests) {
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new NotFoundException("Событие не найдено"));
-        event.setConfirmedRequests(confirmedRequests);
-        eventRepository.save(event);
-        eventRepository.updateConfirmedRequests(eventId, confirmedRequests);
+        if (eventRepository.updateConfirmedRequests(eventId, confirmedRequests) == 0) {
+            throw new NotFoundException("Событие не найдено");
+        }
+        compilationCache.evictByEvent(eventId);
+    }
+
+    @Override
+    @Transactional
+    public void addConfirmedRequests(Long eventId, long delta) {
+        if (eventRepository.addToConfirmedRequests(eventId, delta) == 0) {
+            throw new NotFoundException("Событие не найдено");
+        }
+        compilationCache.evictByEvent(eventId);
     }
 
     @Override
@@ -115,15 +190,15 @@ public class EventServiceImpl implements EventService {
         Pageable page = PageRequest.of(from / size, size);
         List<Event> events = eventRepository.findAllByInitiator(userId, page);
 
-        return EventMapper.toEventShortDtoList(events);
+        return EventMapper.toEventShortDtoList(events, categoryDictionary.snapshot());
     }
 
     @Override
     public EventFullDto getEventByUser(Long userId, Long eventId) {
         Event event = findEventByIdAndInitiatorId(eventId, userId);
-        long confirmedRequests = participationRequestClient.countEventsInStatus(eventId, RequestStatus.CONFIRMED);
+        long confirmedRequests = confirmedRequestsResolver.resolve(event);
 
-        return EventMapper.toFullEventDto(event, confirmedRequests);
+        return EventMapper.toFullEventDto(event, confirmedRequests, categoryDictionary.snapshot());
     }
 
     private void updateEventFromAdminRequest(Event event, UpdateEventAdminRequest dto) {
@@ -145,9 +220,7 @@ public class EventServiceImpl implements EventService {
         }
 
         if (dto.getCategory() != null) {
-            Category category = categoryRepository.findById(dto.getCategory())
-                    .orElseThrow(() -> new NotFoundException("Категория с ID=" + dto.getCategory() + " не найдена."));
-            event.setCategory(category);
+            event.setCategory(resolveCategory(dto.getCategory()));
         }
 
         if (dto.getLocation() != null) {
@@ -188,9 +261,7 @@ public class EventServiceImpl implements EventService {
         }
 
         if (dto.getCategory() != null) {
-            Category category = categoryRepository.findById(dto.getCategory())
-                    .orElseThrow(() -> new NotFoundException("Категория с ID=" + dto.getCategory() + " не найдена."));
-            event.setCategory(category);
+            event.setCategory(resolveCategory(dto.getCategory()));
         }
         if (dto.getLocation() != null) {
             event.setLocation(getLocation(dto.getLocation()));
@@ -198,8 +269,12 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EventFullDto updateEventByUser(Long userId, Long eventId, UpdateEventUserRequest updateRequest) {
+        return retryOnConflict(eventId, () -> applyUserUpdate(userId, eventId, updateRequest));
+    }
+
+    private EventFullDto applyUserUpdate(Long userId, Long eventId, UpdateEventUserRequest updateRequest) {
         Event event = eventRepository.findByIdAndInitiator(eventId, userId)
                 .orElseThrow(() -> new NotFoundException("Событие с ID=" + eventId + " и инициатором ID=" + userId + " не найдено."));
 
@@ -218,12 +293,17 @@ public class EventServiceImpl implements EventService {
         }
 
         Event updatedEvent = eventRepository.save(event);
-        return EventMapper.toFullEventDto(updatedEvent);
+        compilationCache.evictByEvent(eventId);
+        return EventMapper.toFullEventDto(updatedEvent, categoryDictionary.snapshot());
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EventFullDto updateEventByAdmin(Long eventId, UpdateEventAdminRequest updateRequest) {
+        return retryOnConflict(eventId, () -> applyAdminUpdate(eventId, updateRequest));
+    }
+
+    private EventFullDto applyAdminUpdate(Long eventId, UpdateEventAdminRequest updateRequest) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("Событие с ID=" + eventId + " не найдено."));
 
@@ -244,10 +324,61 @@ public class EventServiceImpl implements EventService {
 
         updateEventFromAdminRequest(event, updateRequest);
 
-        return EventMapper.toFullEventDto(eventRepository.save(event));
+        Event updatedEvent = eventRepository.save(event);
+        compilationCache.evictByEvent(eventId);
+        edgeCachePurger.purgeAfterCommit(EdgeCachePurger.EVENTS, EdgeCachePurger.COMPILATIONS);
+        return EventMapper.toFullEventDto(updatedEvent, categoryDictionary.snapshot());
     }
 
     @Override
+    @Transactional
+    public List<EventModerationResult> moderateEvents(EventBatchModerationRequest request) {
+        List<Long> eventIds = request.getEventIds().stream().distinct().toList();
+        boolean publish = request.getStateAction() == StateActionAdmin.PUBLISH_EVENT;
+        EventState targetState = publish ? EventState.PUBLISHED : EventState.CANCELED;
+
+        List<EventModerationResult> results = new ArrayList<>(eventIds.size());
+        Set<Long> updatedIds = new HashSet<>();
+
+        for (int from = 0; from < eventIds.size(); from += moderationChunkSize) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + moderationChunkSize, eventIds.size()));
+            Set<Long> updated = new HashSet<>(publish
+                    ? eventRepository.publishPending(chunk, LocalDateTime.now())
+                    : eventRepository.rejectUnpublished(chunk));
+            updatedIds.addAll(updated);
+
+            Set<Long> failed = chunk.stream()
+                    .filter(id -> !updated.contains(id))
+                    .collect(Collectors.toSet());
+            Map<Long, EventState> failedStates = failed.isEmpty()
+                    ? Map.of()
+                    : eventRepository.findAllByIdIn(failed).stream()
+                    .collect(Collectors.toMap(Event::getId, Event::getState));
+
+            for (Long eventId : chunk) {
+                if (updated.contains(eventId)) {
+                    results.add(new EventModerationResult(eventId, true, targetState, null));
+                } else if (!failedStates.containsKey(eventId)) {
+                    results.add(new EventModerationResult(eventId, false, null,
+                            "Событие с ID=" + eventId + " не найдено."));
+                } else {
+                    EventState state = failedStates.get(eventId);
+                    results.add(new EventModerationResult(eventId, false, state, publish
+                            ? "Нельзя опубликовать событие, так как оно не в состоянии ожидания. Текущий статус: " + state
+                            : "Нельзя отклонить уже опубликованное событие."));
+                }
+            }
+        }
+
+        compilationCache.evictByEvents(updatedIds);
+        if (!updatedIds.isEmpty()) {
+            edgeCachePurger.purgeAfterCommit(EdgeCachePurger.EVENTS, EdgeCachePurger.COMPILATIONS);
+        }
+        return results;
+    }
+
+    @Override
+    @HotPath
     public List<EventShortDto> getEventsByUser(String text, List<Long> categories, Boolean paid,
                                                LocalDateTime rangeStart, LocalDateTime rangeEnd,
                                                Boolean onlyAvailable, SortValue sort,
@@ -257,51 +388,16 @@ public class EventServiceImpl implements EventService {
             throw new ValidationException("Дата начала не может быть позже даты окончания.");
         }
 
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Event> query = cb.createQuery(Event.class);
-        Root<Event> eventRoot = query.from(Event.class);
-
-        List<Predicate> predicates = new ArrayList<>();
-
-        if (text != null && !text.isBlank()) {
-            predicates.add(cb.or(
-                    cb.like(cb.lower(eventRoot.get("annotation")), "%" + text.toLowerCase() + "%"),
-                    cb.like(cb.lower(eventRoot.get("description")), "%" + text.toLowerCase() + "%")
-            ));
-        }
-
-        if (categories != null && !categories.isEmpty()) {
-            predicates.add(eventRoot.get("category").get("id").in(categories));
-        }
-
-        if (paid != null) {
-            predicates.add(cb.equal(eventRoot.get("paid"), paid));
-        }
-
-        LocalDateTime startDateTime = (rangeStart != null) ? rangeStart : LocalDateTime.now();
-        predicates.add(cb.greaterThan(eventRoot.get("eventDate"), startDateTime));
-        if (rangeEnd != null) {
-            predicates.add(cb.lessThan(eventRoot.get("eventDate"), rangeEnd));
-        }
-
-        predicates.add(cb.equal(eventRoot.get("state"), EventState.PUBLISHED));
+        CriteriaQuery<Event> query = EventSearchQueries.publicSearch(entityManager.getCriteriaBuilder(),
+                text, categories, paid, rangeStart, rangeEnd, sort);
 
-        query.where(predicates.toArray(new Predicate[0]));
-
-        if (sort == SortValue.VIEWS) {
-            query.orderBy(cb.desc(eventRoot.get("views")));
-        } else {
-            query.orderBy(cb.desc(eventRoot.get("eventDate")));
-        }
-
-        List<Event> events = entityManager.createQuery(query)
+        List<Event> events = timedCriteriaQuery("getEventsByUser", entityManager.createQuery(query)
                 .setFirstResult(from)
-                .setMaxResults(size)
-                .getResultList();
+                .setMaxResults(size));
 
-        sendHitAsync(request.getRequestURI(), request.getRemoteAddr());
+        hitSender.send(request.getRequestURI(), request.getRemoteAddr());
 
-        List<EventShortDto> shortDtos = EventMapper.toEventShortDtoList(events);
+        List<EventShortDto> shortDtos = EventMapper.toEventShortDtoList(events, categoryDictionary.snapshot());
 
         if (onlyAvailable != null && onlyAvailable) {
             return shortDtos.stream()
@@ -314,28 +410,40 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
+    @HotPath
     public EventFullDto getEvent(Long eventId, HttpServletRequest request) {
         Event event = eventRepository.findByIdAndState(eventId, EventState.PUBLISHED)
                 .orElseThrow(() -> new NotFoundException("Опубликованное событие с ID=" + eventId + " не найдено."));
 
-        List<ViewStatsDto> stats = statsClient.getStats(
-                event.getPublishedOn() != null ? event.getPublishedOn() : event.getCreatedOn(),
-                LocalDateTime.now().plusSeconds(1),
-                List.of(request.getRequestURI()),
-                true
-        );
+        event.setViews(fetchViews(event, request.getRequestURI()));
 
-        if (!stats.isEmpty()) {
-            event.setViews(stats.get(0).getHits());
-        } else {
-            event.setViews(0L);
-        }
+        hitSender.send(request.getRequestURI(), request.getRemoteAddr());
 
-        sendHitAsync(request.getRequestURI(), request.getRemoteAddr());
+        long confirmedRequests = confirmedRequestsResolver.resolve(event);
 
-        long confirmedRequests = participationRequestClient.countEventsInStatus(eventId, RequestStatus.CONFIRMED);
+        return EventMapper.toFullEventDto(event, confirmedRequests, categoryDictionary.snapshot());
+    }
 
-        return EventMapper.toFullEventDto(event, confirmedRequests);
+    private long fetchViews(Event event, String uri) {
+        try {
+            List<ViewStatsDto> stats = statsClient.getStats(
+                    event.getPublishedOn() != null ? event.getPublishedOn() : event.getCreatedOn(),
+                    LocalDateTime.now().plusSeconds(1),
+                    List.of(uri),
+                    true
+            );
+            return stats.isEmpty() ? 0L : stats.get(0).getHits();
+        } catch (RuntimeException e) {
+            log.warn("stats-server недоступен, просмотры события {} не загружены: {}", event.getId(), e.getMessage());
+            return 0L;
+        }
+    }
+
+    // Тело события собирается из БД, stats-server (просмотры) и request-service (подтверждённые заявки),
+    // поэтому валидатор считается по готовому ответу, а не по версии строки: 304 не заморозит эти счётчики.
+    @Override
+    public String getEventEtag(EventFullDto event) {
+        return Etags.of("event", event);
     }
 
     @Override
@@ -381,75 +489,28 @@ public class EventServiceImpl implements EventService {
                 .getResultList();
 
         return events.stream()
-                .map(EventMapper::toFullEventDto)
+                .map(event -> EventMapper.toFullEventDto(event, categoryDictionary.snapshot()))
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public List<EventShortDto> searchPublicEvents(String text, List<Long> categories, Boolean paid,
-                                                  LocalDateTime rangeStart, LocalDateTime rangeEnd,
-                                                  Boolean onlyAvailable, SortValue sort,
-                                                  Integer from, Integer size, HttpServletRequest request) {
-
-        if (rangeStart != null && rangeEnd != null && rangeStart.isAfter(rangeEnd)) {
-            throw new ValidationException("Дата начала не может быть позже даты окончания.");
-        }
-
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Event> query = cb.createQuery(Event.class);
-        Root<Event> eventRoot = query.from(Event.class);
-
-        List<Predicate> predicates = new ArrayList<>();
-
-        if (text != null && !text.isBlank()) {
-            predicates.add(cb.or(
-                    cb.like(cb.lower(eventRoot.get("annotation")), "%" + text.toLowerCase() + "%"),
-                    cb.like(cb.lower(eventRoot.get("description")), "%" + text.toLowerCase() + "%")
-            ));
-        }
-
-        if (categories != null && !categories.isEmpty()) {
-            predicates.add(eventRoot.get("category").get("id").in(categories));
-        }
-
-        if (paid != null) {
-            predicates.add(cb.equal(eventRoot.get("paid"), paid));
-        }
-
-        LocalDateTime startDateTime = (rangeStart != null) ? rangeStart : LocalDateTime.now();
-        predicates.add(cb.greaterThan(eventRoot.get("eventDate"), startDateTime));
-        if (rangeEnd != null) {
-            predicates.add(cb.lessThan(eventRoot.get("eventDate"), rangeEnd));
-        }
-
-        predicates.add(cb.equal(eventRoot.get("state"), EventState.PUBLISHED));
-
-        query.where(predicates.toArray(new Predicate[0]));
-
-        if (sort == SortValue.VIEWS) {
-            query.orderBy(cb.desc(eventRoot.get("views")));
-        } else {
-            query.orderBy(cb.desc(eventRoot.get("eventDate")));
-        }
-
-        List<Event> events = entityManager.createQuery(query)
-                .setFirstResult(from)
-                .setMaxResults(size)
-                .getResultList();
-
-        sendHitAsync(request.getRequestURI(), request.getRemoteAddr());
-
-        List<EventShortDto> shortDtos = EventMapper.toEventShortDtoList(events);
-
-        if (onlyAvailable != null && onlyAvailable) {
-            return shortDtos.stream()
-                    .filter(dto -> {
-                        return dto.getParticipantLimit() == 0 || dto.getConfirmedRequests() < dto.getParticipantLimit();
-                    })
-                    .collect(Collectors.toList());
+    private <T> T retryOnConflict(Long eventId, Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= updateMaxAttempts) {
+                    throw new ConflictException("Событие с ID=" + eventId + " было изменено параллельно, повторите запрос.");
+                }
+                log.debug("Конфликт версий при обновлении события id={}, попытка {}", eventId, attempt);
+            }
         }
+    }
 
-        return shortDtos;
+    // Только для записи: справочник категорий может отставать от удаления на другом экземпляре,
+    // поэтому существование проверяется в БД, иначе вместо 404 получилось бы нарушение внешнего ключа.
+    private Category resolveCategory(Long catId) {
+        return categoryRepository.findById(catId)
+                .orElseThrow(() -> new NotFoundException("Категория с ID=" + catId + " не найдена."));
     }
 
     private void validateEventDate(LocalDateTime eventDate, int hours) {
@@ -464,6 +525,14 @@ public class EventServiceImpl implements EventService {
         eventRepository.incrementViews(eventId);
     }
 
+    private List<Event> timedCriteriaQuery(String operation, TypedQuery<Event> query) {
+        return Timer.builder(CRITERIA_QUERY_METRIC)
+                .tag(MetricTags.OPERATION, operation)
+                .tag(MetricTags.ROUTE, MetricTags.route())
+                .register(meterRegistry)
+                .record(query::getResultList);
+    }
+
     private List<Event> findEventsWithPredicates(List<Predicate> predicates, SortValue sort, int from, int size) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<Event> query = builder.createQuery(Event.class);
@@ -489,8 +558,7 @@ public class EventServiceImpl implements EventService {
     }
 
     private Location getLocation(LocationDto locationDto) {
-        return locationRepository.findByLatAndLon(locationDto.getLat(), locationDto.getLon())
-                .orElseGet(() -> locationRepository.save(LocationMapper.toLocation(locationDto)));
+        return locationResolver.resolve(locationDto);
     }
 
     private List<Predicate> buildAdminSearchPredicates(List<Long> users, List<EventState> states, List<Long> categories,
@@ -519,12 +587,6 @@ public class EventServiceImpl implements EventService {
         return predicates;
     }
 
-    @Async
-    public void sendHitAsync(String uri, String ip) {
-        HitDto hitDto = new HitDto(null, appName, uri, ip, LocalDateTime.now());
-        statsClient.saveHit(hitDto);
-    }
-
     private Event findEventByIdAndInitiatorId(Long eventId, Long userId) {
         return eventRepository.findByIdAndInitiator(eventId, userId)
                 .orElseThrow(() -> new NotFoundException(
@@ -577,7 +639,6 @@ public class EventServiceImpl implements EventService {
     }
 
     private Optional<UserDto> findUserById(Long userId) {
-        List<UserDto> userDtos = userClient.getUsers(List.of(userId));
-        return userDtos.isEmpty() ? Optional.empty() : Optional.of(userDtos.getFirst());
+        return userLookup.findUser(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package practicum.service.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import practicum.HitDto;
+import practicum.StatsClient;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HitSender {
+
+    @Value("${app.name:ewm-main-service}")
+    private String appName;
+
+    private final StatsClient statsClient;
+
+    @Async
+    public void send(String uri, String ip) {
+        try {
+            statsClient.saveHit(new HitDto(null, appName, uri, ip, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Не удалось отправить просмотр {} в stats-server: {}", uri, e.getMessage());
+        }
+    }
+}
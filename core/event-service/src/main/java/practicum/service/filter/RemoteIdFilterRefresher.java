@@ -0,0 +1,20 @@
+package practicum.service.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import practicum.client.UserClient;
+import practicum.filter.RemoteIdFilters;
+
+@Component
+@RequiredArgsConstructor
+public class RemoteIdFilterRefresher {
+
+    private final RemoteIdFilters remoteIdFilters;
+    private final UserClient userClient;
+
+    @Scheduled(initialDelayString = "${id-filter.refresh-ms:5000}", fixedDelayString = "${id-filter.refresh-ms:5000}")
+    public void refresh() {
+        remoteIdFilters.users().refresh(userClient::getIdFilter);
+    }
+}
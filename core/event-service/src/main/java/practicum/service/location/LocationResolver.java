@@ -0,0 +1,137 @@
+package practicum.service.location;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.model.Location;
+import practicum.model.dto.location.LocationDto;
+import practicum.repository.LocationRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+@Component
+public class LocationResolver {
+
+    private static final int COORDINATE_SCALE = 6;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO locations (id, lat, lon) VALUES (nextval('locations_seq'), ?, ?) ON CONFLICT (lat, lon) DO NOTHING";
+
+    private final LocationRepository locationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CoordinateKey, Long> cache;
+
+    public LocationResolver(LocationRepository locationRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${location-cache.max-size:10000}") int maxSize) {
+        this.locationRepository = locationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CoordinateKey, Long> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public Location resolve(LocationDto locationDto) {
+        BigDecimal lat = quantise(locationDto.getLat());
+        BigDecimal lon = quantise(locationDto.getLon());
+        CoordinateKey key = CoordinateKey.of(lat, lon);
+
+        Long locationId = cache.get(key);
+        if (locationId == null) {
+            locationId = locationRepository.upsert(lat, lon);
+            putAfterCommit(Map.of(key, locationId));
+        }
+
+        return toLocation(locationId, lat, lon);
+    }
+
+    public List<Location> resolveAll(List<LocationDto> locationDtos) {
+        List<CoordinateKey> keys = new ArrayList<>(locationDtos.size());
+        Map<CoordinateKey, Location> resolved = new HashMap<>();
+        Map<CoordinateKey, Location> missing = new LinkedHashMap<>();
+
+        for (LocationDto locationDto : locationDtos) {
+            BigDecimal lat = quantise(locationDto.getLat());
+            BigDecimal lon = quantise(locationDto.getLon());
+            CoordinateKey key = CoordinateKey.of(lat, lon);
+            keys.add(key);
+            if (resolved.containsKey(key) || missing.containsKey(key)) {
+                continue;
+            }
+            Long locationId = cache.get(key);
+            if (locationId != null) {
+                resolved.put(key, toLocation(locationId, lat, lon));
+            } else {
+                missing.put(key, toLocation(null, lat, lon));
+            }
+        }
+
+        List<Location> pending = new ArrayList<>(missing.values());
+        Map<CoordinateKey, Long> created = new HashMap<>();
+        for (int from = 0; from < pending.size(); from += BULK_CHUNK_SIZE) {
+            List<Location> chunk = pending.subList(from, Math.min(from + BULK_CHUNK_SIZE, pending.size()));
+            jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, chunk, chunk.size(), (statement, location) -> {
+                statement.setBigDecimal(1, location.getLat());
+                statement.setBigDecimal(2, location.getLon());
+            });
+
+            Set<BigDecimal> lats = new HashSet<>();
+            chunk.forEach(location -> lats.add(location.getLat()));
+            for (Location stored : locationRepository.findAllByLatIn(lats)) {
+                BigDecimal lat = quantise(stored.getLat());
+                BigDecimal lon = quantise(stored.getLon());
+                CoordinateKey key = CoordinateKey.of(lat, lon);
+                if (missing.containsKey(key)) {
+                    resolved.put(key, toLocation(stored.getId(), lat, lon));
+                    created.put(key, stored.getId());
+                }
+            }
+        }
+        putAfterCommit(created);
+
+        return keys.stream()
+                .map(resolved::get)
+                .toList();
+    }
+
+    private Location toLocation(Long locationId, BigDecimal lat, BigDecimal lon) {
+        return Location.builder()
+                .id(locationId)
+                .lat(lat)
+                .lon(lon)
+                .build();
+    }
+
+    private BigDecimal quantise(BigDecimal coordinate) {
+        return coordinate.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private void putAfterCommit(Map<CoordinateKey, Long> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.putAll(locations);
+                }
+            });
+        } else {
+            cache.putAll(locations);
+        }
+    }
+
+    private record CoordinateKey(long lat, long lon) {
+        private static CoordinateKey of(BigDecimal lat, BigDecimal lon) {
+            return new CoordinateKey(lat.unscaledValue().longValue(), lon.unscaledValue().longValue());
+        }
+    }
+}
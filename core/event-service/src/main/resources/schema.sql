@@ -1,23 +1,32 @@
+-- INCREMENT BY должен совпадать с practicum.id.allocation-size.<последовательность> в конфигурации сервиса
+CREATE SEQUENCE IF NOT EXISTS locations_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 10;
+CREATE SEQUENCE IF NOT EXISTS events_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS compilations_seq START WITH 1 INCREMENT BY 10;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 20;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS locations
 (
-    id  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id  BIGINT DEFAULT nextval('locations_seq') PRIMARY KEY,
     lat DECIMAL(8, 6) NOT NULL,
-    lon DECIMAL(9, 6) NOT NULL
+    lon DECIMAL(9, 6) NOT NULL,
+    CONSTRAINT uq_locations_lat_lon UNIQUE (lat, lon)
 );
 
 CREATE TABLE IF NOT EXISTS categories
 (
-    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id   BIGINT DEFAULT nextval('categories_seq') PRIMARY KEY,
     name VARCHAR(50) NOT NULL UNIQUE
 );
 
 CREATE TABLE IF NOT EXISTS events
 (
-    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id                 BIGINT DEFAULT nextval('events_seq') PRIMARY KEY,
     annotation         VARCHAR(2000),
     title              VARCHAR(125),
     description        VARCHAR(7000),
-    confirmed_requests BIGINT,
+    confirmed_requests BIGINT DEFAULT 0 NOT NULL,
     created_on         TIMESTAMP,
     event_date         TIMESTAMP,
     paid               BOOLEAN,
@@ -28,16 +37,19 @@ CREATE TABLE IF NOT EXISTS events
     initiator_id       BIGINT,
     location_id        BIGINT,
     state              VARCHAR(21),
-    views              BIGINT,
+    views              BIGINT DEFAULT 0 NOT NULL,
+    comments_count     BIGINT DEFAULT 0 NOT NULL,
+    version            BIGINT DEFAULT 0 NOT NULL,
     FOREIGN KEY (category_id) REFERENCES categories (id),
     FOREIGN KEY (location_id) REFERENCES locations (id)
 );
 
 CREATE TABLE IF NOT EXISTS compilations
 (
-    id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-    title  VARCHAR(50) NOT NULL,
-    pinned BOOLEAN     NOT NULL DEFAULT FALSE,
+    id      BIGINT DEFAULT nextval('compilations_seq') PRIMARY KEY,
+    title   VARCHAR(50) NOT NULL,
+    pinned  BOOLEAN     NOT NULL DEFAULT FALSE,
+    version BIGINT      NOT NULL DEFAULT 0,
     CONSTRAINT uq_compilation_title UNIQUE (title)
 );
 
@@ -52,14 +64,14 @@ CREATE TABLE IF NOT EXISTS compilation_events
 
 CREATE TABLE IF NOT EXISTS users
 (
-    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id    BIGINT DEFAULT nextval('users_seq') PRIMARY KEY,
     email VARCHAR(254) NOT NULL UNIQUE CHECK (email ~* '.+@.+\..+$'),
     name  VARCHAR(250) NOT NULL
 );
 
 CREATE TABLE IF NOT EXISTS comments
 (
-    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    id         BIGINT DEFAULT nextval('comments_seq') NOT NULL,
     text       VARCHAR(2000)                           NOT NULL,
     event_id   BIGINT                                  NOT NULL,
     author_id  BIGINT                                  NOT NULL,
@@ -71,4 +83,18 @@ CREATE INDEX IF NOT EXISTS idx_events_category_id ON events (category_id);
 CREATE INDEX IF NOT EXISTS idx_events_initiator_id ON events (initiator_id);
 CREATE INDEX IF NOT EXISTS idx_events_location_id ON events (location_id);
 CREATE INDEX IF NOT EXISTS idx_events_state ON events (state);
-ALTER TABLE events ADD CONSTRAINT fk_initiator FOREIGN KEY (initiator_id) REFERENCES users (id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_comments_event_created ON comments (event_id, created_on, id);
+CREATE INDEX IF NOT EXISTS idx_comments_author_id ON comments (author_id);
+ALTER TABLE events ADD CONSTRAINT fk_initiator FOREIGN KEY (initiator_id) REFERENCES users (id);
+
+CREATE SEQUENCE IF NOT EXISTS id_filter_log_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS id_filter_log
+(
+    id        BIGINT DEFAULT nextval('id_filter_log_seq') PRIMARY KEY,
+    filter    VARCHAR(20)              NOT NULL,
+    entity_id BIGINT                   NOT NULL,
+    logged_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_id_filter_log_filter_logged_at ON id_filter_log (filter, logged_at);
@@ -0,0 +1,15 @@
+package practicum.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@FeignClient(
+        name = "gateway-server",
+        path = "/actuator/edgecache"
+)
+public interface EdgeCacheClient {
+
+    @DeleteMapping
+    void purge(@RequestParam("prefix") String prefix);
+}
@@ -3,6 +3,7 @@ package practicum.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 import practicum.model.dto.event.EventFullDto;
+import practicum.model.dto.filter.IdFilterUpdate;
 
 import java.util.Optional;
 
@@ -18,4 +19,11 @@ public interface EventClient {
     @PatchMapping("/{eventId}/confirmed-requests")
     void updateConfirmedRequests(@PathVariable("eventId") Long eventId,
                                  @RequestParam("confirmedRequests") Long confirmedRequests);
+
+    @PatchMapping("/{eventId}/confirmed-requests/increment")
+    void addConfirmedRequests(@PathVariable("eventId") Long eventId,
+                              @RequestParam("delta") long delta);
+
+    @GetMapping("/id-filter")
+    IdFilterUpdate getIdFilter(@RequestParam("epoch") String epoch, @RequestParam("since") long since);
 }
\ No newline at end of file
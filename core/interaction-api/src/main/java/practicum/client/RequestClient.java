@@ -1,10 +1,12 @@
 package practicum.client;
 
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateResult;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.model.enums.RequestStatus;
 
 import java.util.List;
@@ -28,6 +30,16 @@ public interface RequestClient {
     List<ParticipationRequestDto> getRequestsForEventByOwner(@PathVariable("ownerId") Long ownerId,
                                                              @PathVariable("eventId") Long eventId);
 
+    @GetMapping("/owner/{ownerId}/event/{eventId}/page")
+    ParticipationRequestPage getRequestsPageForEventByOwner(@PathVariable("ownerId") Long ownerId,
+                                                            @PathVariable("eventId") Long eventId,
+                                                            @RequestParam("after") Long after,
+                                                            @RequestParam("size") Integer size);
+
+    @GetMapping("/owner/{ownerId}/event/{eventId}/export")
+    Response exportRequestsForEventByOwner(@PathVariable("ownerId") Long ownerId,
+                                           @PathVariable("eventId") Long eventId);
+
     @PatchMapping("/user/{userId}/event/{eventId}/status")
     EventRequestStatusUpdateResult updateRequestStatus(@PathVariable("userId") Long userId,
                                                        @PathVariable("eventId") Long eventId,
@@ -3,6 +3,7 @@ package practicum.client;
 import feign.FeignException;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
+import practicum.model.dto.filter.IdFilterUpdate;
 import practicum.model.dto.user.UserDto;
 
 import java.util.List;
@@ -19,4 +20,7 @@ public interface UserClient {
 
     @GetMapping("/{userId}")
     Optional<UserDto> getUser(@PathVariable("userId") Long userId);
+
+    @GetMapping("/id-filter")
+    IdFilterUpdate getIdFilter(@RequestParam("epoch") String epoch, @RequestParam("since") long since);
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package practicum.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import practicum.filter.RemoteIdFilters;
+import practicum.model.dto.user.UserDto;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-lookup.enabled", havingValue = "true")
+public class UserLookup implements DisposableBean {
+
+    private final UserClient userClient;
+    private final RemoteIdFilters remoteIdFilters;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final long staleTtlMillis;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final Map<Long, CachedUser> cache;
+    private final ConcurrentMap<Long, CompletableFuture<Optional<UserDto>>> inFlight = new ConcurrentHashMap<>();
+    private final Object pendingLock = new Object();
+    private final ScheduledExecutorService executor;
+    private Set<Long> pending = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
+    public UserLookup(UserClient userClient,
+                      RemoteIdFilters remoteIdFilters,
+                      @Value("${user-lookup.cache.ttl-ms:60000}") long ttlMillis,
+                      @Value("${user-lookup.cache.negative-ttl-ms:2000}") long negativeTtlMillis,
+                      @Value("${user-lookup.cache.stale-ttl-ms:600000}") long staleTtlMillis,
+                      @Value("${user-lookup.cache.max-size:10000}") int maxCacheSize,
+                      @Value("${user-lookup.batch.window-ms:5}") long batchWindowMillis,
+                      @Value("${user-lookup.batch.max-size:100}") int maxBatchSize,
+                      @Value("${user-lookup.batch.threads:4}") int threads,
+                      @Value("${user-lookup.timeout-ms:5000}") long timeoutMillis) {
+        this.userClient = userClient;
+        this.remoteIdFilters = remoteIdFilters;
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.staleTtlMillis = staleTtlMillis;
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > maxCacheSize;
+            }
+        });
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<UserDto> findUser(Long userId) {
+        if (!remoteIdFilters.mightContainUser(userId)) {
+            return Optional.empty();
+        }
+        CachedUser cached = getCached(userId);
+        if (cached != null) {
+            return cached.user();
+        }
+        return await(inFlight.computeIfAbsent(userId, this::enqueue));
+    }
+
+    public boolean exists(Long userId) {
+        return findUser(userId).isPresent();
+    }
+
+    public Map<Long, UserDto> findUsers(Collection<Long> userIds) {
+        Map<Long, UserDto> result = new HashMap<>();
+        Map<Long, CompletableFuture<Optional<UserDto>>> waiting = new HashMap<>();
+
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            if (!remoteIdFilters.mightContainUser(userId)) {
+                continue;
+            }
+            CachedUser cached = getCached(userId);
+            if (cached != null) {
+                cached.user().ifPresent(user -> result.put(userId, user));
+            } else {
+                waiting.put(userId, inFlight.computeIfAbsent(userId, this::enqueue));
+            }
+        }
+
+        waiting.forEach((userId, future) -> await(future).ifPresent(user -> result.put(userId, user)));
+        return result;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Optional<UserDto>> enqueue(Long userId) {
+        CompletableFuture<Optional<UserDto>> future = new CompletableFuture<>();
+        synchronized (pendingLock) {
+            pending.add(userId);
+            if (pending.size() >= maxBatchSize) {
+                executor.execute(this::flush);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                executor.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    private void flush() {
+        Set<Long> batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                flushScheduled = false;
+                return;
+            }
+            if (pending.size() <= maxBatchSize) {
+                batch = pending;
+                pending = new LinkedHashSet<>();
+                flushScheduled = false;
+            } else {
+                batch = pending.stream().limit(maxBatchSize).collect(Collectors.toCollection(LinkedHashSet::new));
+                pending.removeAll(batch);
+                executor.execute(this::flush);
+            }
+        }
+
+        try {
+            log.debug("Пакетный запрос пользователей: {}", batch);
+            Map<Long, UserDto> loaded = userClient.getUsers(new ArrayList<>(batch)).stream()
+                    .collect(Collectors.toMap(UserDto::getId, Function.identity(), (first, second) -> first));
+            for (Long userId : batch) {
+                Optional<UserDto> user = Optional.ofNullable(loaded.get(userId));
+                if (user.isPresent()) {
+                    cache.put(userId, new CachedUser(user, System.currentTimeMillis() + ttlMillis));
+                } else if (!remoteIdFilters.isUserBeyondCoveredIds(userId)) {
+                    // id выше coveredId реплики может принадлежать только что созданному пользователю, его не кэшируем
+                    cache.put(userId, new CachedUser(user, System.currentTimeMillis() + negativeTtlMillis));
+                }
+                complete(userId, future -> future.complete(user));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Пакетный запрос пользователей {} завершился ошибкой: {}", batch, e.getMessage());
+            long now = System.currentTimeMillis();
+            for (Long userId : batch) {
+                CachedUser stale = cache.get(userId);
+                if (stale != null && stale.user().isPresent() && stale.expiresAt() + staleTtlMillis >= now) {
+                    complete(userId, future -> future.complete(stale.user()));
+                } else {
+                    complete(userId, future -> future.completeExceptionally(e));
+                }
+            }
+        }
+    }
+
+    private void complete(Long userId, Consumer<CompletableFuture<Optional<UserDto>>> action) {
+        CompletableFuture<Optional<UserDto>> future = inFlight.remove(userId);
+        if (future != null) {
+            action.accept(future);
+        }
+    }
+
+    private CachedUser getCached(Long userId) {
+        CachedUser cached = cache.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return cached;
+    }
+
+    private Optional<UserDto> await(CompletableFuture<Optional<UserDto>> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Превышено время ожидания ответа user-service", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedUser(Optional<UserDto> user, long expiresAt) {
+    }
+}
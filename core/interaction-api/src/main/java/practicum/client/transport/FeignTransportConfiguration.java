@@ -0,0 +1,44 @@
+package practicum.client.transport;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class FeignTransportConfiguration {
+
+    @Bean
+    public ConnectionPool feignConnectionPool(
+            @Value("${feign-transport.pool.max-idle-connections:50}") int maxIdleConnections,
+            @Value("${feign-transport.pool.keep-alive-ms:300000}") long keepAliveMillis) {
+        return new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public OkHttpClient feignOkHttpClient(
+            ConnectionPool feignConnectionPool,
+            @Value("${feign-transport.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${feign-transport.read-timeout-ms:3000}") long readTimeoutMillis,
+            @Value("${feign-transport.write-timeout-ms:3000}") long writeTimeoutMillis,
+            @Value("${feign-transport.ping-interval-ms:30000}") long pingIntervalMillis,
+            @Value("${feign-transport.http2-prior-knowledge:false}") boolean http2PriorKnowledge) {
+        return new OkHttpClient.Builder()
+                .connectionPool(feignConnectionPool)
+                .protocols(http2PriorKnowledge
+                        ? List.of(Protocol.H2_PRIOR_KNOWLEDGE)
+                        : List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+                .pingInterval(pingIntervalMillis, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .followRedirects(false)
+                .build();
+    }
+}
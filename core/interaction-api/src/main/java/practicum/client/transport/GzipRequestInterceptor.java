@@ -0,0 +1,48 @@
+package practicum.client.transport;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipRequestInterceptor implements RequestInterceptor {
+
+    static final String GZIP = "gzip";
+
+    private final boolean enabled;
+    private final int minSize;
+    private final Set<String> excludedClients;
+
+    public GzipRequestInterceptor(boolean enabled, int minSize, Set<String> excludedClients) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.excludedClients = excludedClients;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        byte[] body = template.body();
+        if (!enabled || body == null || body.length < minSize
+                || template.headers().containsKey(HttpHeaders.CONTENT_ENCODING)
+                || (template.feignTarget() != null && excludedClients.contains(template.feignTarget().name()))) {
+            return;
+        }
+        template.body(gzip(body), template.requestCharset());
+        template.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
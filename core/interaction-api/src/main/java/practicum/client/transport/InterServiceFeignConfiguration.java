@@ -0,0 +1,26 @@
+package practicum.client.transport;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Set;
+
+public class InterServiceFeignConfiguration {
+
+    @Bean
+    public GzipRequestInterceptor gzipRequestInterceptor(
+            @Value("${feign-transport.compression.request.enabled:true}") boolean enabled,
+            @Value("${feign-transport.compression.request.min-size:2048}") int minSize,
+            @Value("${feign-transport.compression.request.excluded-clients:stats-server,gateway-server}")
+            Set<String> excludedClients) {
+        return new GzipRequestInterceptor(enabled, minSize, excludedClients);
+    }
+
+    @Bean
+    public ResilienceCapability resilienceCapability(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                     BulkheadRegistry bulkheadRegistry) {
+        return new ResilienceCapability(circuitBreakerRegistry, bulkheadRegistry);
+    }
+}
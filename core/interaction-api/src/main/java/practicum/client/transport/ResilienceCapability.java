@@ -0,0 +1,39 @@
+package practicum.client.transport;
+
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+
+import java.lang.reflect.InvocationHandler;
+
+public class ResilienceCapability implements Capability {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienceCapability(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            InvocationHandler delegate = invocationHandlerFactory.create(target, dispatch);
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(target.name());
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(target.name());
+            return (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return delegate.invoke(proxy, method, args);
+                }
+                CheckedSupplier<Object> call = () -> delegate.invoke(proxy, method, args);
+                return CircuitBreaker.decorateCheckedSupplier(circuitBreaker,
+                        Bulkhead.decorateCheckedSupplier(bulkhead, call)).get();
+            };
+        };
+    }
+}
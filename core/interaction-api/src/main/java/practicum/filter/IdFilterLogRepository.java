@@ -0,0 +1,31 @@
+package practicum.filter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import practicum.model.IdFilterLogEntry;
+
+import java.util.List;
+
+public interface IdFilterLogRepository extends JpaRepository<IdFilterLogEntry, Long> {
+
+    @Query(value = "SELECT CAST(FLOOR(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000) AS BIGINT)", nativeQuery = true)
+    long currentTimeMillis();
+
+    @Query(value = """
+            SELECT l.entity_id
+            FROM id_filter_log l
+            WHERE l.filter = :filter
+              AND l.logged_at > TO_TIMESTAMP(:afterMillis / 1000.0)
+            """, nativeQuery = true)
+    List<Long> findEntityIdsLoggedAfter(@Param("filter") String filter, @Param("afterMillis") long afterMillis);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM id_filter_log
+            WHERE filter = :filter
+              AND logged_at < TO_TIMESTAMP(:beforeMillis / 1000.0)
+            """, nativeQuery = true)
+    int deleteLoggedBefore(@Param("filter") String filter, @Param("beforeMillis") long beforeMillis);
+}
@@ -0,0 +1,147 @@
+package practicum.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import practicum.model.dto.filter.IdFilterUpdate;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+// Версии и эпохи считаются по часам БД, а изменения читаются из общего журнала id_filter_log,
+// поэтому любой экземпляр сервиса отдаёт согласованные обновления независимо от того, где создана запись.
+// Журнал читается с перекрытием overlapMillis: запись, закоммиченная позже соседних, всё равно попадёт
+// в следующую дельту, если её транзакция длилась меньше окна перекрытия.
+// Из-за блоков pooled-lo id ниже maxId может закоммититься позже maxId, поэтому отдельно публикуется
+// coveredId: блок любого id не выше него выделен до контрольной точки, а блок живёт не дольше maxBlockAgeMillis,
+// значит такой id уже попал в журнал и прочитан. Промах фильтра окончателен только для id не выше coveredId.
+@Slf4j
+public class IdFilterPublisher {
+
+    private final String name;
+    private final IdFilterStore store;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+    private final long overlapMillis;
+    private final long retentionMillis;
+    private final long maxBlockAgeMillis;
+
+    private final Deque<Checkpoint> checkpoints = new ArrayDeque<>();
+    private volatile State state;
+
+    public IdFilterPublisher(String name, IdFilterStore store, int initialCapacity, double falsePositiveRate,
+                             long overlapMillis, long retentionMillis, long maxBlockAgeMillis) {
+        if (retentionMillis <= overlapMillis) {
+            throw new IllegalArgumentException("Срок хранения журнала фильтра должен превышать окно перекрытия");
+        }
+        this.name = name;
+        this.store = store;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.overlapMillis = overlapMillis;
+        this.retentionMillis = retentionMillis;
+        this.maxBlockAgeMillis = maxBlockAgeMillis;
+    }
+
+    public boolean isReady() {
+        return state != null;
+    }
+
+    public void rebuild() {
+        long builtAt = store.currentTimeMillis();
+        List<Long> ids = store.loadAllIds();
+        ScalableBloomFilter filter = new ScalableBloomFilter(Math.max(initialCapacity, ids.size()), falsePositiveRate);
+        long maxId = 0;
+        for (Long id : ids) {
+            filter.add(id);
+            maxId = Math.max(maxId, id);
+        }
+        synchronized (this) {
+            // Покрытие описывает саму БД, а не экземпляр фильтра, поэтому переживает перестроение
+            long coveredId = state != null ? state.coveredId() : 0;
+            state = new State(filter, builtAt, builtAt, maxId, coveredId);
+        }
+        log.info("Фильтр идентификаторов {} построен: {} записей, maxId={}", name, ids.size(), maxId);
+        catchUp();
+    }
+
+    public synchronized void catchUp() {
+        State current = state;
+        if (current == null) {
+            return;
+        }
+        long now = store.currentTimeMillis();
+        // Все id не выше current.maxId() уже прочитаны, то есть сгенерированы раньше now
+        checkpoints.addLast(new Checkpoint(now, current.maxId()));
+        long maxId = current.maxId();
+        for (Long id : store.idsLoggedAfter(current.coveredUntil() - overlapMillis)) {
+            current.filter().add(id);
+            maxId = Math.max(maxId, id);
+        }
+        state = new State(current.filter(), current.builtAt(), now, maxId,
+                coveredId(now, current.coveredId()));
+    }
+
+    private long coveredId(long coveredUntil, long previous) {
+        long threshold = coveredUntil - overlapMillis - maxBlockAgeMillis;
+        long coveredId = previous;
+        while (!checkpoints.isEmpty() && checkpoints.peekFirst().takenAt() <= threshold) {
+            coveredId = Math.max(coveredId, checkpoints.pollFirst().maxId());
+        }
+        return coveredId;
+    }
+
+    public void register(Collection<Long> ids) {
+        store.append(ids);
+    }
+
+    public int prune() {
+        return store.pruneLoggedBefore(store.currentTimeMillis() - retentionMillis);
+    }
+
+    public IdFilterUpdate updatesSince(String clientEpoch, long since) {
+        State current = state;
+        if (current == null) {
+            throw new IllegalStateException("Фильтр идентификаторов " + name + " ещё не построен");
+        }
+        long now = store.currentTimeMillis();
+        if (since <= 0 || since < now - retentionMillis + overlapMillis || parseEpoch(clientEpoch) < current.builtAt()) {
+            return IdFilterUpdate.builder()
+                    .epoch(String.valueOf(current.builtAt()))
+                    .version(current.coveredUntil())
+                    .maxId(current.maxId())
+                    .coveredId(current.coveredId())
+                    .snapshot(true)
+                    .slices(current.filter().toSlices())
+                    .build();
+        }
+
+        List<Long> added = store.idsLoggedAfter(since - overlapMillis);
+        long maxId = current.maxId();
+        for (Long id : added) {
+            maxId = Math.max(maxId, id);
+        }
+        return IdFilterUpdate.builder()
+                .epoch(clientEpoch)
+                .version(now)
+                .maxId(maxId)
+                .coveredId(current.coveredId())
+                .snapshot(false)
+                .addedIds(added)
+                .build();
+    }
+
+    private static long parseEpoch(String epoch) {
+        try {
+            return Long.parseLong(epoch);
+        } catch (NumberFormatException | NullPointerException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private record State(ScalableBloomFilter filter, long builtAt, long coveredUntil, long maxId, long coveredId) {
+    }
+
+    private record Checkpoint(long takenAt, long maxId) {
+    }
+}
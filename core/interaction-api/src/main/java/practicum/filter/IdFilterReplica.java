@@ -0,0 +1,80 @@
+package practicum.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import practicum.model.dto.filter.IdFilterUpdate;
+
+import java.util.function.BiFunction;
+
+@Slf4j
+public class IdFilterReplica {
+
+    private final String name;
+    private final long idSlack;
+    private volatile State state;
+
+    public IdFilterReplica(String name, long idSlack) {
+        this.name = name;
+        this.idSlack = idSlack;
+    }
+
+    public boolean mightContain(Long id) {
+        State current = state;
+        if (id == null || current == null) {
+            return true;
+        }
+        if (id <= 0) {
+            return false;
+        }
+        if (id > current.maxId()) {
+            return id <= current.maxId() + idSlack;
+        }
+        if (id > current.coveredId()) {
+            // Блок pooled-lo с этим id мог ещё не израсходоваться: промах не окончателен, проверяет владелец
+            return true;
+        }
+        return current.filter().mightContain(id);
+    }
+
+    public boolean isBeyondCoveredIds(Long id) {
+        State current = state;
+        return id == null || current == null || id > current.coveredId();
+    }
+
+    public void refresh(BiFunction<String, Long, IdFilterUpdate> source) {
+        State current = state;
+        try {
+            IdFilterUpdate update = current == null
+                    ? source.apply("", 0L)
+                    : source.apply(current.epoch(), current.version());
+            apply(update);
+        } catch (RuntimeException e) {
+            log.warn("Не удалось обновить фильтр идентификаторов {}: {}", name, e.getMessage());
+        }
+    }
+
+    public synchronized void apply(IdFilterUpdate update) {
+        if (update == null) {
+            return;
+        }
+        State current = state;
+        if (update.isSnapshot()) {
+            state = new State(update.getEpoch(), update.getVersion(), update.getMaxId(), update.getCoveredId(),
+                    ScalableBloomFilter.fromSlices(update.getSlices()));
+            log.debug("Получен снимок фильтра идентификаторов {}: версия {}", name, update.getVersion());
+            return;
+        }
+        if (current == null || !current.epoch().equals(update.getEpoch())) {
+            return;
+        }
+        long maxId = Math.max(current.maxId(), update.getMaxId());
+        for (Long id : update.getAddedIds()) {
+            current.filter().add(id);
+            maxId = Math.max(maxId, id);
+        }
+        long coveredId = Math.max(current.coveredId(), update.getCoveredId());
+        state = new State(current.epoch(), update.getVersion(), maxId, coveredId, current.filter());
+    }
+
+    private record State(String epoch, long version, long maxId, long coveredId, ScalableBloomFilter filter) {
+    }
+}
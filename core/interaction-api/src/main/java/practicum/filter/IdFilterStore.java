@@ -0,0 +1,17 @@
+package practicum.filter;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface IdFilterStore {
+
+    long currentTimeMillis();
+
+    List<Long> loadAllIds();
+
+    List<Long> idsLoggedAfter(long afterMillis);
+
+    void append(Collection<Long> ids);
+
+    int pruneLoggedBefore(long beforeMillis);
+}
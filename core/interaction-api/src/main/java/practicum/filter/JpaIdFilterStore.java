@@ -0,0 +1,47 @@
+package practicum.filter;
+
+import practicum.model.IdFilterLogEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class JpaIdFilterStore implements IdFilterStore {
+
+    private final String filter;
+    private final IdFilterLogRepository logRepository;
+    private final Supplier<List<Long>> idLoader;
+
+    public JpaIdFilterStore(String filter, IdFilterLogRepository logRepository, Supplier<List<Long>> idLoader) {
+        this.filter = filter;
+        this.logRepository = logRepository;
+        this.idLoader = idLoader;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return logRepository.currentTimeMillis();
+    }
+
+    @Override
+    public List<Long> loadAllIds() {
+        return idLoader.get();
+    }
+
+    @Override
+    public List<Long> idsLoggedAfter(long afterMillis) {
+        return logRepository.findEntityIdsLoggedAfter(filter, afterMillis);
+    }
+
+    @Override
+    public void append(Collection<Long> ids) {
+        logRepository.saveAll(ids.stream()
+                .map(id -> IdFilterLogEntry.builder().filter(filter).entityId(id).build())
+                .toList());
+    }
+
+    @Override
+    public int pruneLoggedBefore(long beforeMillis) {
+        return logRepository.deleteLoggedBefore(filter, beforeMillis);
+    }
+}
@@ -0,0 +1,36 @@
+package practicum.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RemoteIdFilters {
+
+    private final IdFilterReplica users;
+    private final IdFilterReplica events;
+
+    public RemoteIdFilters(@Value("${id-filter.id-slack:10000}") long idSlack) {
+        this.users = new IdFilterReplica("users", idSlack);
+        this.events = new IdFilterReplica("events", idSlack);
+    }
+
+    public IdFilterReplica users() {
+        return users;
+    }
+
+    public IdFilterReplica events() {
+        return events;
+    }
+
+    public boolean mightContainUser(Long userId) {
+        return users.mightContain(userId);
+    }
+
+    public boolean isUserBeyondCoveredIds(Long userId) {
+        return users.isBeyondCoveredIds(userId);
+    }
+
+    public boolean mightContainEvent(Long eventId) {
+        return events.mightContain(eventId);
+    }
+}
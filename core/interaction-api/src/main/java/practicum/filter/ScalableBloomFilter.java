@@ -0,0 +1,152 @@
+package practicum.filter;
+
+import practicum.model.dto.filter.BloomFilterSlice;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final List<Slice> slices = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+        slices.add(new Slice(initialCapacity, falsePositiveRate));
+    }
+
+    private ScalableBloomFilter(List<Slice> slices) {
+        this.slices.addAll(slices);
+    }
+
+    public static ScalableBloomFilter fromSlices(List<BloomFilterSlice> slices) {
+        if (slices == null || slices.isEmpty()) {
+            throw new IllegalArgumentException("Снимок фильтра не содержит ни одного сегмента");
+        }
+        return new ScalableBloomFilter(slices.stream().map(Slice::fromDto).toList());
+    }
+
+    public boolean mightContain(long id) {
+        long hash1 = mix(id);
+        long hash2 = mix(hash1 ^ id) | 1;
+        for (Slice slice : slices) {
+            if (slice.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void add(long id) {
+        long hash1 = mix(id);
+        long hash2 = mix(hash1 ^ id) | 1;
+        for (Slice slice : slices) {
+            if (slice.mightContain(hash1, hash2)) {
+                return;
+            }
+        }
+        Slice current = slices.getLast();
+        if (current.count.get() >= current.capacity) {
+            current = new Slice(current.capacity * GROWTH_FACTOR, current.falsePositiveRate * TIGHTENING_RATIO);
+            slices.add(current);
+        }
+        current.add(hash1, hash2);
+    }
+
+    public synchronized List<BloomFilterSlice> toSlices() {
+        List<BloomFilterSlice> result = new ArrayList<>(slices.size());
+        for (Slice slice : slices) {
+            result.add(slice.toDto());
+        }
+        return result;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Slice {
+        private final int capacity;
+        private final double falsePositiveRate;
+        private final int hashCount;
+        private final int bitCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong count;
+
+        private Slice(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            int optimalBits = (int) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARED);
+            this.bitCount = Math.max(64, (optimalBits + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray(bitCount / 64);
+            this.count = new AtomicLong();
+        }
+
+        private Slice(BloomFilterSlice dto, long[] words) {
+            this.capacity = dto.getCapacity();
+            this.falsePositiveRate = dto.getFalsePositiveRate();
+            this.hashCount = dto.getHashCount();
+            this.bitCount = dto.getBitCount();
+            this.bits = new AtomicLongArray(words);
+            this.count = new AtomicLong(dto.getCount());
+        }
+
+        private static Slice fromDto(BloomFilterSlice dto) {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(dto.getBits()));
+            long[] words = new long[dto.getBitCount() / 64];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = buffer.getLong();
+            }
+            return new Slice(dto, words);
+        }
+
+        private BloomFilterSlice toDto() {
+            ByteBuffer buffer = ByteBuffer.allocate(bits.length() * Long.BYTES);
+            for (int i = 0; i < bits.length(); i++) {
+                buffer.putLong(bits.get(i));
+            }
+            return BloomFilterSlice.builder()
+                    .capacity(capacity)
+                    .falsePositiveRate(falsePositiveRate)
+                    .hashCount(hashCount)
+                    .bitCount(bitCount)
+                    .count(count.get())
+                    .bits(Base64.getEncoder().encodeToString(buffer.array()))
+                    .build();
+        }
+
+        private boolean mightContain(long hash1, long hash2) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash1, hash2, i);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(long hash1, long hash2) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash1, hash2, i);
+                long mask = 1L << index;
+                bits.getAndUpdate(index >>> 6, word -> word | mask);
+            }
+            count.incrementAndGet();
+        }
+
+        private int index(long hash1, long hash2, int i) {
+            return (int) Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package practicum.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class HotPathMetricsAspect {
+
+    static final String METRIC_NAME = "ewm.service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(practicum.metrics.HotPath)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag(MetricTags.OPERATION, joinPoint.getSignature().getDeclaringType().getSimpleName()
+                            + "." + joinPoint.getSignature().getName())
+                    .tag(MetricTags.ROUTE, MetricTags.route())
+                    .tag(MetricTags.OUTCOME, MetricTags.outcome(error))
+                    .register(meterRegistry));
+        }
+    }
+}
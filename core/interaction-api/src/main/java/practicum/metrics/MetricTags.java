@@ -0,0 +1,53 @@
+package practicum.metrics;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import practicum.exception.*;
+
+public final class MetricTags {
+
+    public static final String ROUTE = "route";
+    public static final String OUTCOME = "outcome";
+    public static final String OPERATION = "operation";
+
+    private static final String NO_ROUTE = "none";
+
+    private MetricTags() {
+    }
+
+    public static String route() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_ROUTE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? NO_ROUTE : pattern.toString();
+    }
+
+    public static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? NO_ROUTE : pattern.toString();
+    }
+
+    public static String outcome(Throwable error) {
+        if (error == null) {
+            return Outcome.SUCCESS.name();
+        }
+        if (error instanceof NotFoundException || error instanceof ValidationException
+                || error instanceof ConflictException || error instanceof WrongTimeException
+                || error instanceof EventException || error instanceof ParticipationException
+                || error instanceof FeignException.FeignClientException) {
+            return Outcome.CLIENT_ERROR.name();
+        }
+        return Outcome.SERVER_ERROR.name();
+    }
+
+    public static String outcome(int status) {
+        return Outcome.forStatus(status).name();
+    }
+}
@@ -0,0 +1,49 @@
+package practicum.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "hibernate.statements.per.request";
+    static final String SPAN_ATTRIBUTE = "db.statement.count";
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            int statements = StatementCounter.stop();
+            DistributionSummary.builder(METRIC_NAME)
+                    .baseUnit("statements")
+                    .tag(MetricTags.ROUTE, MetricTags.route(request))
+                    .tag(MetricTags.OUTCOME, MetricTags.outcome(status))
+                    .register(meterRegistry)
+                    .record(statements);
+            Observation observation = observationRegistry.getCurrentObservation();
+            if (observation != null) {
+                observation.highCardinalityKeyValue(SPAN_ATTRIBUTE, String.valueOf(statements));
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import practicum.persistence.PooledSequence;
 
 @Data
 @Builder
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "categories")
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "categories_seq", allocationSize = 10)
     private Long id;
 
     @Column(name = "name", unique = true, nullable = false, length = 50)
@@ -2,6 +2,7 @@ package practicum.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import practicum.persistence.PooledSequence;
 
 import java.time.LocalDateTime;
 
@@ -10,10 +11,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_event_created", columnList = "event_id, created_on, id"),
+        @Index(name = "idx_comments_author_id", columnList = "author_id")
+})
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "text", nullable = false, length = 2000)
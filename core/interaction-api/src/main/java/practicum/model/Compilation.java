@@ -2,10 +2,12 @@ package practicum.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import practicum.persistence.PooledSequence;
 
 import java.util.Set;
 
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,9 +15,11 @@ import java.util.Set;
 @Table(name = "compilations")
 public class Compilation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    @PooledSequence(name = "compilations_seq", allocationSize = 10)
     private Long id;
 
+    @ToString.Exclude
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "compilation_events",
             joinColumns = @JoinColumn(name = "compilation_id"),
@@ -27,4 +31,8 @@ public class Compilation {
 
     @Column(name = "title", nullable = false, length = 50)
     private String title;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -5,25 +5,29 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import practicum.model.Category;
-import practicum.model.Comment;
 import practicum.model.Location;
 import practicum.model.enums.EventState;
+import practicum.persistence.PooledSequence;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
 @Builder
+@DynamicUpdate
 @Table(name = "events")
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    @PooledSequence(name = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "annotation", length = 2000)
@@ -46,7 +50,8 @@ public class Event {
     @Column(name = "initiator_id", nullable = false)
     private Long initiator;
 
-    @OneToOne(cascade = {CascadeType.ALL})
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
 
@@ -67,16 +72,21 @@ public class Event {
     @Column(name = "state")
     private EventState state;
 
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
-    @Column(name = "views")
+    @Column(name = "views", nullable = false, updatable = false)
     private Long views;
 
-    @Column(name = "confirmed_requests")
+    @Column(name = "confirmed_requests", nullable = false, updatable = false)
     private Long confirmedRequests;
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Set<Comment> comments = new HashSet<>();
+    @Column(name = "comments_count", nullable = false, updatable = false)
+    private Long commentsCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package practicum.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "event_request_counters")
+public class EventRequestCounter {
+    @EmbeddedId
+    private EventRequestCounterId id;
+
+    @Column(name = "count", nullable = false)
+    private Long requestCount;
+}
@@ -0,0 +1,34 @@
+package practicum.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import practicum.persistence.PooledSequence;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "id_filter_log",
+        indexes = @Index(name = "idx_id_filter_log_filter_logged_at", columnList = "filter, logged_at"))
+public class IdFilterLogEntry {
+    @Id
+    @PooledSequence(name = "id_filter_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String filter;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // Время начала транзакции по часам БД, одинаковое для всех экземпляров сервиса
+    @Column(name = "logged_at", insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private Instant loggedAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import practicum.persistence.PooledSequence;
 
 import java.math.BigDecimal;
 
@@ -13,13 +14,16 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "locations")
+@Table(name = "locations", uniqueConstraints = @UniqueConstraint(name = "uq_locations_lat_lon",
+        columnNames = {"lat", "lon"}))
 public class Location {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "locations_seq", allocationSize = 1)
     private Long id;
 
+    @Column(name = "lat", nullable = false, precision = 8, scale = 6)
     private BigDecimal lat;
 
+    @Column(name = "lon", nullable = false, precision = 9, scale = 6)
     private BigDecimal lon;
 }
\ No newline at end of file
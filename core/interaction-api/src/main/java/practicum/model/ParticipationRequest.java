@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
 import practicum.model.enums.RequestStatus;
+import practicum.persistence.PooledSequence;
 
 import java.time.LocalDateTime;
 
@@ -12,10 +13,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "participation_requests")
+@Table(name = "participation_requests",
+        uniqueConstraints = @UniqueConstraint(name = "uq_participation_requests_event_requester",
+                columnNames = {"event_id", "requester_id"}),
+        indexes = @Index(name = "idx_participation_requests_requester_id", columnList = "requester_id"))
 public class ParticipationRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "participation_requests_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "created_at", nullable = false)
@@ -2,6 +2,7 @@ package practicum.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import practicum.persistence.PooledSequence;
 
 @Data
 @Builder
@@ -11,7 +12,7 @@ import lombok.*;
 @Table(name = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "users_seq", allocationSize = 20)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 254)
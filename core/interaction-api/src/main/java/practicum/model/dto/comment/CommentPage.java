@@ -0,0 +1,18 @@
+package practicum.model.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPage {
+    private List<CommentDto> items;
+
+    private String nextCursor;
+}
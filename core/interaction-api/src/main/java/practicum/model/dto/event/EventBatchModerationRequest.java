@@ -0,0 +1,25 @@
+package practicum.model.dto.event;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import practicum.model.enums.StateActionAdmin;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBatchModerationRequest {
+    @NotEmpty(message = "Список событий не может быть пустым.")
+    @Size(max = 10000, message = "За один запрос можно обработать не более 10000 событий.")
+    private List<@NotNull Long> eventIds;
+
+    @NotNull(message = "Действие модерации обязательно.")
+    private StateActionAdmin stateAction;
+}
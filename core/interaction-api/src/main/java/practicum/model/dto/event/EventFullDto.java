@@ -47,4 +47,5 @@ public class EventFullDto {
     private EventState state;
     private String title;
     private Long views;
+    private Long commentsCount;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package practicum.model.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import practicum.model.enums.EventState;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventModerationResult {
+    private Long eventId;
+
+    private boolean updated;
+
+    private EventState state;
+
+    private String error;
+}
@@ -0,0 +1,24 @@
+package practicum.model.dto.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BloomFilterSlice {
+    private int capacity;
+
+    private double falsePositiveRate;
+
+    private int hashCount;
+
+    private int bitCount;
+
+    private long count;
+
+    private String bits;
+}
@@ -0,0 +1,28 @@
+package practicum.model.dto.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdFilterUpdate {
+    private String epoch;
+
+    private long version;
+
+    private long maxId;
+
+    private long coveredId;
+
+    private boolean snapshot;
+
+    private List<BloomFilterSlice> slices;
+
+    private List<Long> addedIds;
+}
@@ -0,0 +1,18 @@
+package practicum.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipationRequestPage {
+    private List<ParticipationRequestDto> items;
+
+    private Long nextCursor;
+}
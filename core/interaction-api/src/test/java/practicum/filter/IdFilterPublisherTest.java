@@ -0,0 +1,242 @@
+package practicum.filter;
+
+import org.junit.jupiter.api.Test;
+import practicum.model.dto.filter.IdFilterUpdate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdFilterPublisherTest {
+
+    private static final long OVERLAP = 1_000;
+    private static final long RETENTION = 60_000;
+    private static final long BLOCK_AGE = 5_000;
+
+    private final FakeStore store = new FakeStore();
+
+    @Test
+    void isNotReadyUntilFirstRebuild() {
+        IdFilterPublisher publisher = publisher();
+
+        assertThat(publisher.isReady()).isFalse();
+        assertThatThrownBy(() -> publisher.updatesSince("", 0)).isInstanceOf(IllegalStateException.class);
+
+        publisher.rebuild();
+
+        assertThat(publisher.isReady()).isTrue();
+    }
+
+    @Test
+    void servesSnapshotToNewReplica() {
+        store.insert(1L, 2L, 500L);
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+
+        IdFilterUpdate update = publisher.updatesSince("", 0);
+
+        assertThat(update.isSnapshot()).isTrue();
+        assertThat(update.getEpoch()).isEqualTo(String.valueOf(FakeStore.START));
+        assertThat(update.getMaxId()).isEqualTo(500L);
+        ScalableBloomFilter filter = ScalableBloomFilter.fromSlices(update.getSlices());
+        assertThat(filter.mightContain(2L)).isTrue();
+        assertThat(filter.mightContain(3L)).isFalse();
+    }
+
+    @Test
+    void servesIdsCreatedOnAnyInstanceAsDelta() {
+        store.insert(1L);
+        IdFilterPublisher first = publisher();
+        IdFilterPublisher second = publisher();
+        first.rebuild();
+        second.rebuild();
+        IdFilterUpdate snapshot = first.updatesSince("", 0);
+
+        store.advance(5_000);
+        second.register(List.of(7L));
+        store.advance(5_000);
+        IdFilterUpdate delta = first.updatesSince(snapshot.getEpoch(), snapshot.getVersion());
+
+        assertThat(delta.isSnapshot()).isFalse();
+        assertThat(delta.getAddedIds()).containsExactly(7L);
+        assertThat(delta.getMaxId()).isEqualTo(7L);
+        assertThat(delta.getVersion()).isEqualTo(store.now);
+    }
+
+    @Test
+    void redeliversLateCommitsWithinOverlapWindow() {
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+        IdFilterUpdate snapshot = publisher.updatesSince("", 0);
+
+        store.advance(10_000);
+        IdFilterUpdate first = publisher.updatesSince(snapshot.getEpoch(), snapshot.getVersion());
+        // Транзакция началась до предыдущего опроса, а закоммитилась после него
+        store.log(first.getVersion() - OVERLAP / 2, 9L);
+        store.advance(2_000);
+        IdFilterUpdate second = publisher.updatesSince(first.getEpoch(), first.getVersion());
+
+        assertThat(first.getAddedIds()).isEmpty();
+        assertThat(second.getAddedIds()).containsExactly(9L);
+    }
+
+    @Test
+    void doesNotForceSnapshotWhenReplicaSwitchesInstances() {
+        IdFilterPublisher older = publisher();
+        older.rebuild();
+        store.advance(10_000);
+        IdFilterPublisher newer = publisher();
+        newer.rebuild();
+
+        IdFilterUpdate snapshot = newer.updatesSince("", 0);
+        store.advance(1_000);
+
+        assertThat(older.updatesSince(snapshot.getEpoch(), snapshot.getVersion()).isSnapshot()).isFalse();
+        assertThat(newer.updatesSince(snapshot.getEpoch(), snapshot.getVersion()).isSnapshot()).isFalse();
+    }
+
+    @Test
+    void resendsSnapshotAfterRebuildOrWhenLogNoLongerCoversReplica() {
+        store.insert(1L);
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+        IdFilterUpdate snapshot = publisher.updatesSince("", 0);
+
+        store.advance(1_000);
+        publisher.rebuild();
+        assertThat(publisher.updatesSince(snapshot.getEpoch(), snapshot.getVersion()).isSnapshot()).isTrue();
+
+        IdFilterUpdate fresh = publisher.updatesSince("", 0);
+        assertThat(publisher.updatesSince(fresh.getEpoch(), fresh.getVersion()).isSnapshot()).isFalse();
+        assertThat(publisher.updatesSince("garbage", fresh.getVersion()).isSnapshot()).isTrue();
+
+        store.advance(RETENTION);
+        assertThat(publisher.updatesSince(fresh.getEpoch(), fresh.getVersion()).isSnapshot()).isTrue();
+    }
+
+    @Test
+    void catchUpKeepsSnapshotCurrent() {
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+
+        store.advance(1_000);
+        publisher.register(List.of(42L));
+        store.advance(1_000);
+        publisher.catchUp();
+        IdFilterUpdate snapshot = publisher.updatesSince("", 0);
+
+        assertThat(snapshot.getVersion()).isEqualTo(store.now);
+        assertThat(snapshot.getMaxId()).isEqualTo(42L);
+        assertThat(ScalableBloomFilter.fromSlices(snapshot.getSlices()).mightContain(42L)).isTrue();
+    }
+
+    @Test
+    void coversIdsOnlyAfterTheirBlocksExpire() {
+        // Блок 1..20 ещё у одного экземпляра, 21 уже закоммичен другим
+        store.insert(1L, 21L);
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+
+        assertThat(publisher.updatesSince("", 0).getCoveredId()).isZero();
+
+        store.advance(2_000);
+        publisher.register(List.of(2L));
+        publisher.catchUp();
+        assertThat(publisher.updatesSince("", 0).getCoveredId()).isZero();
+
+        store.advance(OVERLAP + BLOCK_AGE);
+        publisher.register(List.of(41L));
+        publisher.catchUp();
+        IdFilterUpdate snapshot = publisher.updatesSince("", 0);
+
+        assertThat(snapshot.getCoveredId()).isEqualTo(21L);
+        assertThat(snapshot.getMaxId()).isEqualTo(41L);
+        assertThat(publisher.updatesSince(snapshot.getEpoch(), snapshot.getVersion()).getCoveredId()).isEqualTo(21L);
+    }
+
+    @Test
+    void rebuildKeepsCoveredId() {
+        store.insert(1L, 21L);
+        IdFilterPublisher publisher = publisher();
+        publisher.rebuild();
+        store.advance(OVERLAP + BLOCK_AGE);
+        publisher.catchUp();
+
+        publisher.rebuild();
+
+        assertThat(publisher.updatesSince("", 0).getCoveredId()).isEqualTo(21L);
+    }
+
+    @Test
+    void prunesEntriesOlderThanRetention() {
+        IdFilterPublisher publisher = publisher();
+        publisher.register(List.of(1L));
+        store.advance(RETENTION + 1);
+        publisher.register(List.of(2L));
+
+        assertThat(publisher.prune()).isEqualTo(1);
+        assertThat(store.entries).extracting(Entry::id).containsExactly(2L);
+    }
+
+    private IdFilterPublisher publisher() {
+        return new IdFilterPublisher("test", store, 16, 0.000001, OVERLAP, RETENTION, BLOCK_AGE);
+    }
+
+    private record Entry(long loggedAt, long id) {
+    }
+
+    private static final class FakeStore implements IdFilterStore {
+
+        private static final long START = 1_000_000;
+
+        private final List<Long> table = new ArrayList<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private long now = START;
+
+        void advance(long millis) {
+            now += millis;
+        }
+
+        void insert(Long... ids) {
+            table.addAll(List.of(ids));
+        }
+
+        void log(long loggedAt, long id) {
+            table.add(id);
+            entries.add(new Entry(loggedAt, id));
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return now;
+        }
+
+        @Override
+        public List<Long> loadAllIds() {
+            return List.copyOf(table);
+        }
+
+        @Override
+        public List<Long> idsLoggedAfter(long afterMillis) {
+            return entries.stream()
+                    .filter(entry -> entry.loggedAt() > afterMillis)
+                    .map(Entry::id)
+                    .toList();
+        }
+
+        @Override
+        public void append(Collection<Long> ids) {
+            ids.forEach(id -> log(now, id));
+        }
+
+        @Override
+        public int pruneLoggedBefore(long beforeMillis) {
+            int before = entries.size();
+            entries.removeIf(entry -> entry.loggedAt() < beforeMillis);
+            return before - entries.size();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package practicum.filter;
+
+import org.junit.jupiter.api.Test;
+import practicum.model.dto.filter.IdFilterUpdate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdFilterReplicaTest {
+
+    private static final long SLACK = 100;
+
+    private final IdFilterReplica replica = new IdFilterReplica("test", SLACK);
+
+    @Test
+    void failsOpenUntilFirstSnapshot() {
+        assertThat(replica.mightContain(1L)).isTrue();
+        assertThat(replica.mightContain(1_000_000L)).isTrue();
+        assertThat(replica.isBeyondCoveredIds(1L)).isTrue();
+    }
+
+    @Test
+    void answersFromSnapshot() {
+        replica.apply(snapshot("100", 10, 1L, 2L, 500L));
+
+        assertThat(replica.mightContain(1L)).isTrue();
+        assertThat(replica.mightContain(500L)).isTrue();
+        assertThat(replica.mightContain(3L)).isFalse();
+        assertThat(replica.mightContain(0L)).isFalse();
+        assertThat(replica.mightContain(-7L)).isFalse();
+        assertThat(replica.mightContain(null)).isTrue();
+    }
+
+    @Test
+    void acceptsIdsAboveMaxIdOnlyWithinSlack() {
+        replica.apply(snapshot("100", 10, 1L, 500L));
+
+        assertThat(replica.mightContain(500L + SLACK)).isTrue();
+        assertThat(replica.mightContain(500L + SLACK + 1)).isFalse();
+        assertThat(replica.isBeyondCoveredIds(499L)).isFalse();
+        assertThat(replica.isBeyondCoveredIds(501L)).isTrue();
+    }
+
+    @Test
+    void confirmsMissesAboveCoveredIdRemotely() {
+        // Экземпляр A держит блок users 1..20, экземпляр B — 21..40: 21 и 22 закоммичены раньше 3
+        replica.apply(IdFilterUpdate.builder()
+                .epoch("100")
+                .version(10)
+                .maxId(22L)
+                .coveredId(0L)
+                .snapshot(true)
+                .slices(filterOf(1L, 2L, 21L, 22L).toSlices())
+                .build());
+
+        assertThat(replica.mightContain(3L)).isTrue();
+        assertThat(replica.isBeyondCoveredIds(3L)).isTrue();
+        assertThat(replica.mightContain(21L)).isTrue();
+
+        // A коммитит 3 позже 22, а блоки старше контрольной точки публикатора уже истекли
+        replica.apply(IdFilterUpdate.builder()
+                .epoch("100")
+                .version(20)
+                .maxId(22L)
+                .coveredId(22L)
+                .snapshot(false)
+                .addedIds(List.of(3L))
+                .build());
+
+        assertThat(replica.mightContain(3L)).isTrue();
+        assertThat(replica.mightContain(4L)).isFalse();
+        assertThat(replica.isBeyondCoveredIds(4L)).isFalse();
+        assertThat(replica.mightContain(23L)).isTrue();
+        assertThat(replica.isBeyondCoveredIds(23L)).isTrue();
+    }
+
+    @Test
+    void coveredIdNeverMovesBackwardsWithinEpoch() {
+        replica.apply(snapshot("100", 10, 1L, 500L));
+
+        replica.apply(IdFilterUpdate.builder()
+                .epoch("100")
+                .version(20)
+                .maxId(500L)
+                .coveredId(0L)
+                .snapshot(false)
+                .addedIds(List.of())
+                .build());
+
+        assertThat(replica.mightContain(2L)).isFalse();
+    }
+
+    @Test
+    void appliesDeltaOnTopOfSnapshot() {
+        replica.apply(snapshot("100", 10, 1L, 500L));
+
+        replica.apply(delta("100", 20, 500L, 3L, 700L));
+
+        assertThat(replica.mightContain(3L)).isTrue();
+        assertThat(replica.mightContain(700L)).isTrue();
+        assertThat(replica.mightContain(700L + SLACK)).isTrue();
+        assertThat(replica.mightContain(4L)).isFalse();
+    }
+
+    @Test
+    void repeatedIdsInOverlappingDeltasAreHarmless() {
+        replica.apply(snapshot("100", 10, 1L));
+
+        replica.apply(delta("100", 20, 0L, 5L, 6L));
+        replica.apply(delta("100", 30, 0L, 5L, 6L, 7L));
+
+        assertThat(replica.mightContain(5L)).isTrue();
+        assertThat(replica.mightContain(6L)).isTrue();
+        assertThat(replica.mightContain(7L)).isTrue();
+    }
+
+    @Test
+    void ignoresDeltaForAnotherEpochOrWithoutSnapshot() {
+        replica.apply(delta("100", 20, 0L, 3L));
+        assertThat(replica.isBeyondCoveredIds(1L)).isTrue();
+
+        replica.apply(snapshot("100", 10, 1L, 500L));
+        replica.apply(delta("200", 20, 0L, 3L));
+
+        assertThat(replica.mightContain(3L)).isFalse();
+    }
+
+    @Test
+    void snapshotReplacesPreviousState() {
+        replica.apply(snapshot("100", 10, 1L, 2L, 500L));
+
+        replica.apply(snapshot("200", 30, 2L, 500L));
+
+        assertThat(replica.mightContain(1L)).isFalse();
+        assertThat(replica.mightContain(2L)).isTrue();
+    }
+
+    @Test
+    void refreshSendsKnownEpochAndVersion() {
+        List<String> requests = new ArrayList<>();
+
+        replica.refresh((epoch, since) -> {
+            requests.add(epoch + "@" + since);
+            return snapshot("100", 10, 1L);
+        });
+        replica.refresh((epoch, since) -> {
+            requests.add(epoch + "@" + since);
+            return delta("100", 25, 0L, 2L);
+        });
+        replica.refresh((epoch, since) -> {
+            requests.add(epoch + "@" + since);
+            return delta("100", 40, 0L);
+        });
+
+        assertThat(requests).containsExactly("@0", "100@10", "100@25");
+        assertThat(replica.mightContain(2L)).isTrue();
+    }
+
+    @Test
+    void keepsStateWhenRefreshFails() {
+        replica.apply(snapshot("100", 10, 1L, 500L));
+
+        replica.refresh((epoch, since) -> {
+            throw new IllegalStateException("503");
+        });
+
+        assertThat(replica.mightContain(1L)).isTrue();
+        assertThat(replica.mightContain(2L)).isFalse();
+    }
+
+    private static IdFilterUpdate snapshot(String epoch, long version, Long... ids) {
+        long maxId = 0;
+        for (Long id : ids) {
+            maxId = Math.max(maxId, id);
+        }
+        return IdFilterUpdate.builder()
+                .epoch(epoch)
+                .version(version)
+                .maxId(maxId)
+                .coveredId(maxId)
+                .snapshot(true)
+                .slices(filterOf(ids).toSlices())
+                .build();
+    }
+
+    private static IdFilterUpdate delta(String epoch, long version, long maxId, Long... ids) {
+        return IdFilterUpdate.builder()
+                .epoch(epoch)
+                .version(version)
+                .maxId(maxId)
+                .coveredId(maxId)
+                .snapshot(false)
+                .addedIds(List.of(ids))
+                .build();
+    }
+
+    private static ScalableBloomFilter filterOf(Long... ids) {
+        ScalableBloomFilter filter = new ScalableBloomFilter(16, 0.000001);
+        for (Long id : ids) {
+            filter.add(id);
+        }
+        return filter;
+    }
+}
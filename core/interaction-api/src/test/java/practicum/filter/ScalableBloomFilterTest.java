@@ -0,0 +1,84 @@
+package practicum.filter;
+
+import org.junit.jupiter.api.Test;
+import practicum.model.dto.filter.BloomFilterSlice;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void reportsEveryAddedIdAfterGrowingPastInitialCapacity() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        for (long id = 1; id <= 5_000; id++) {
+            filter.add(id);
+        }
+
+        assertThat(filter.toSlices()).hasSizeGreaterThan(1);
+        for (long id = 1; id <= 5_000; id++) {
+            assertThat(filter.mightContain(id)).as("id %d", id).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTargetWhileGrowing() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.add(id);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long id = 1_000_000; id < 1_000_000 + probes; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // Сегменты ужесточаются вдвое, поэтому суммарная доля ложных срабатываний не выше 2 * 0.01
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+
+    @Test
+    void addingTheSameIdTwiceDoesNotGrowTheFilter() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.01);
+        for (int i = 0; i < 100; i++) {
+            filter.add(42L);
+        }
+
+        List<BloomFilterSlice> slices = filter.toSlices();
+
+        assertThat(slices).hasSize(1);
+        assertThat(slices.getFirst().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void restoresTheSameAnswersFromSlices() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(64, 0.001);
+        for (long id = 1; id <= 500; id += 2) {
+            filter.add(id);
+        }
+
+        ScalableBloomFilter copy = ScalableBloomFilter.fromSlices(filter.toSlices());
+
+        for (long id = 1; id <= 1_000; id++) {
+            assertThat(copy.mightContain(id)).as("id %d", id).isEqualTo(filter.mightContain(id));
+        }
+        assertThat(copy.toSlices()).isEqualTo(filter.toSlices());
+
+        copy.add(10_001L);
+        assertThat(copy.mightContain(10_001L)).isTrue();
+    }
+
+    @Test
+    void rejectsSnapshotWithoutSlices() {
+        assertThatThrownBy(() -> ScalableBloomFilter.fromSlices(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScalableBloomFilter.fromSlices(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
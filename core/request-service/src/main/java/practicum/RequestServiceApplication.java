@@ -3,16 +3,20 @@ package practicum;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import practicum.client.EventClient;
 import practicum.client.UserClient;
+import practicum.client.transport.InterServiceFeignConfiguration;
 
 @SpringBootApplication
 @EnableFeignClients(
         clients = {
                 UserClient.class,
                 EventClient.class
-        }
+        },
+        defaultConfiguration = InterServiceFeignConfiguration.class
 )
+@EnableScheduling
 public class RequestServiceApplication {
 
     public static void main(String[] args) {
@@ -1,10 +1,14 @@
 package practicum.controller.internal;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateResult;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.model.enums.RequestStatus;
 import practicum.service.ParticipationRequestService;
 
@@ -17,6 +21,8 @@ import java.util.Map;
 @RequestMapping("/api/v1/requests")
 public class InternalParticipationRequestController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ParticipationRequestService participationRequestService;
 
     @GetMapping("/{eventId}/count")
@@ -37,6 +43,26 @@ public class InternalParticipationRequestController {
         return participationRequestService.getRequestsByOwner(ownerId, eventId);
     }
 
+    @GetMapping("/owner/{ownerId}/event/{eventId}/page")
+    public ParticipationRequestPage getRequestsPageForEventByOwner(
+            @PathVariable Long ownerId,
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "100") Integer size
+    ) {
+        return participationRequestService.getRequestsByOwnerPage(ownerId, eventId, after, size);
+    }
+
+    @GetMapping("/owner/{ownerId}/event/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportRequestsForEventByOwner(
+            @PathVariable Long ownerId,
+            @PathVariable Long eventId
+    ) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(participationRequestService.exportRequestsByOwner(ownerId, eventId));
+    }
+
     @PatchMapping("/user/{userId}/event/{eventId}/status")
     EventRequestStatusUpdateResult updateRequestStatus(
             @PathVariable Long userId,
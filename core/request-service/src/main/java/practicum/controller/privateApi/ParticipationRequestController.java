@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.service.ParticipationRequestService;
 
 import java.util.Collection;
@@ -30,6 +31,14 @@ public class ParticipationRequestController {
         return requestService.getUserRequests(userId);
     }
 
+    @GetMapping("/page")
+    public ParticipationRequestPage getUserRequestsPage(@PathVariable Long userId,
+                                                        @RequestParam(defaultValue = "0") Long after,
+                                                        @RequestParam(defaultValue = "100") Integer size) {
+        log.info("Getting requests page for user id {} after id {}", userId, after);
+        return requestService.getUserRequestsPage(userId, after, size);
+    }
+
     @PatchMapping("/{requestId}/cancel")
     public ResponseEntity<ParticipationRequestDto> cancelRequest(
             @PathVariable Long userId,
@@ -1,5 +1,7 @@
 package practicum.exceptionHandler;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +28,16 @@ public class ErrorHandler {
         return buildResponseEntity(error, status);
     }
 
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ApiError> handleDependencyUnavailable(final RuntimeException e) {
+        log.warn("Dependency unavailable: {}", e.getMessage());
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiError error = ApiError.builder(status, "Dependent service is unavailable.")
+                .message(e.getMessage())
+                .build();
+        return buildResponseEntity(error, status);
+    }
+
     private ResponseEntity<ApiError> buildResponseEntity(ApiError error, HttpStatus status) {
         return ResponseEntity.status(status).body(error);
     }
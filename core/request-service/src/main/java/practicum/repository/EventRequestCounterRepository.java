@@ -0,0 +1,48 @@
+package practicum.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import practicum.model.EventRequestCounter;
+import practicum.model.EventRequestCounterId;
+import practicum.model.enums.RequestStatus;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public interface EventRequestCounterRepository extends JpaRepository<EventRequestCounter, EventRequestCounterId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_request_counters (event_id, status, count)
+            VALUES (:eventId, :status, :delta)
+            ON CONFLICT (event_id, status)
+            DO UPDATE SET count = event_request_counters.count + EXCLUDED.count
+            """, nativeQuery = true)
+    void addToCount(@Param("eventId") Long eventId,
+                    @Param("status") String status,
+                    @Param("delta") long delta);
+
+    @Query("""
+            SELECT c.requestCount
+            FROM EventRequestCounter c
+            WHERE c.id.eventId = :eventId
+              AND c.id.status = :status
+            """)
+    Optional<Long> findCount(@Param("eventId") Long eventId, @Param("status") RequestStatus status);
+
+    @Query("""
+            SELECT c.id.eventId, c.requestCount
+            FROM EventRequestCounter c
+            WHERE c.id.eventId IN :eventIds
+              AND c.id.status = :status
+            """)
+    List<Object[]> findCountsRaw(@Param("eventIds") Set<Long> eventIds, @Param("status") RequestStatus status);
+
+    default Map<Long, Long> findCounts(Set<Long> eventIds, RequestStatus status) {
+        if (Objects.isNull(eventIds) || eventIds.isEmpty()) return Collections.emptyMap();
+        return findCountsRaw(eventIds, status).stream()
+                .collect(Collectors.toMap(obj -> (Long) obj[0], obj -> (Long) obj[1]));
+    }
+}
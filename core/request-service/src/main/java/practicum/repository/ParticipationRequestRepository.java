@@ -1,43 +1,76 @@
 package practicum.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import practicum.model.Event;
 import practicum.model.ParticipationRequest;
 import practicum.model.User;
 import practicum.model.enums.RequestStatus;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface ParticipationRequestRepository extends JpaRepository<ParticipationRequest, Long> {
     boolean existsByEventAndRequester(Long eventId, Long requesterId);
 
-    long countByEventAndStatus(Long eventId, RequestStatus status);
-
     List<ParticipationRequest> findAllByEventAndStatus(Long eventId, RequestStatus status);
 
     List<ParticipationRequest> findAllByRequester(Long requesterId);
 
     List<ParticipationRequest> findAllByEvent(Long eventId);
 
+    List<ParticipationRequest> findAllByRequesterAndIdGreaterThanOrderByIdAsc(Long requesterId, Long afterId,
+                                                                              Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<ParticipationRequest> findAllByEventAndIdGreaterThanOrderByIdAsc(Long eventId, Long afterId,
+                                                                          Pageable pageable);
+
     Optional<ParticipationRequest> findByIdAndRequester(Long requestId, Long requesterId);
 
     List<ParticipationRequest> findAllByIdIn(List<Long> requestIds);
 
-    @Query("""
-            SELECT r.event, COUNT(r.id)
-            FROM ParticipationRequest r
-            WHERE r.event IN :eventIds
-              AND r.status = 'CONFIRMED'
-            GROUP BY r.event
-            """)
-    List<Object[]> countConfirmedRequestsForEventsRaw(@Param("eventIds") Set<Long> eventIds);
-
-    default Map<Long, Long> countConfirmedRequestsForEvents(Set<Long> eventIds) {
-        if (Objects.isNull(eventIds) || eventIds.isEmpty()) return Collections.emptyMap();
-        return countConfirmedRequestsForEventsRaw(eventIds).stream()
-                .collect(Collectors.toMap(obj -> (Long) obj[0], obj -> (Long) obj[1]));
-    }
+    // Строка CONFIRMED должна существовать до insertIfAbsentWithinLimit: FOR UPDATE блокирует только найденную строку
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_request_counters (event_id, status, count)
+            VALUES (:eventId, 'CONFIRMED', 0)
+            ON CONFLICT (event_id, status) DO NOTHING
+            """, nativeQuery = true)
+    void ensureConfirmedCounter(@Param("eventId") Long eventId);
+
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO participation_requests (id, created_at, event_id, requester_id, status)
+                SELECT nextval('participation_requests_seq'), :created, :eventId, :requesterId, :status
+                WHERE :participantLimit = 0
+                   OR COALESCE((SELECT c.count
+                                FROM event_request_counters c
+                                WHERE c.event_id = :eventId
+                                  AND c.status = 'CONFIRMED'
+                                FOR UPDATE), 0) < :participantLimit
+                ON CONFLICT (event_id, requester_id) DO NOTHING
+                RETURNING id, status
+            ), counted AS (
+                INSERT INTO event_request_counters (event_id, status, count)
+                SELECT :eventId, i.status, 1
+                FROM inserted i
+                ON CONFLICT (event_id, status)
+                DO UPDATE SET count = event_request_counters.count + 1
+            )
+            SELECT id FROM inserted
+            """, nativeQuery = true)
+    Optional<Long> insertIfAbsentWithinLimit(@Param("eventId") Long eventId,
+                                             @Param("requesterId") Long requesterId,
+                                             @Param("status") String status,
+                                             @Param("created") LocalDateTime created,
+                                             @Param("participantLimit") long participantLimit);
 }
\ No newline at end of file
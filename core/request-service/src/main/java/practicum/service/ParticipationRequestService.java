@@ -1,9 +1,11 @@
 package practicum.service;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateResult;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.model.enums.RequestStatus;
 
 import java.util.HashSet;
@@ -23,6 +25,12 @@ public interface ParticipationRequestService {
 
     List<ParticipationRequestDto> getRequestsByOwner(Long userId, Long eventId);
 
+    ParticipationRequestPage getUserRequestsPage(Long userId, Long after, int size);
+
+    ParticipationRequestPage getRequestsByOwnerPage(Long userId, Long eventId, Long after, int size);
+
+    StreamingResponseBody exportRequestsByOwner(Long userId, Long eventId);
+
     @Transactional
     ParticipationRequestDto cancelRequest(Long userId, Long requestId);
 
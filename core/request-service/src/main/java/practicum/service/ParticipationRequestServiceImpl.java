@@ -1,16 +1,24 @@
 package practicum.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import practicum.client.EventClient;
-import practicum.client.UserClient;
+import practicum.client.UserLookup;
 import practicum.exception.ConflictException;
 import practicum.exception.NotFoundException;
 import practicum.exception.ValidationException;
+import practicum.filter.RemoteIdFilters;
 import practicum.mapper.ParticipationRequestMapper;
+import practicum.metrics.HotPath;
 import practicum.model.Event;
 import practicum.model.ParticipationRequest;
 import practicum.model.User;
@@ -18,6 +26,7 @@ import practicum.model.dto.event.EventFullDto;
 import practicum.model.dto.request.EventRequestStatusUpdateRequest;
 import practicum.model.dto.request.EventRequestStatusUpdateResult;
 import practicum.model.dto.request.ParticipationRequestDto;
+import practicum.model.dto.request.ParticipationRequestPage;
 import practicum.model.dto.user.UserDto;
 import practicum.model.enums.EventState;
 import practicum.model.enums.RequestStatus;
@@ -35,9 +44,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ParticipationRequestServiceImpl implements ParticipationRequestService {
 
-        private final UserClient userClient;
+        private final UserLookup userLookup;
         private final EventClient eventClient;
+        private final RemoteIdFilters remoteIdFilters;
         private final ParticipationRequestRepository requestRepository;
+        private final RequestCounterService counterService;
+        private final ObjectMapper objectMapper;
+
+        private static final int MAX_PAGE_SIZE = 1000;
+        private static final int EXPORT_PAGE_SIZE = 500;
 
         @Override
         public List<ParticipationRequestDto> getUserRequests(Long userId) {
@@ -59,12 +74,16 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
                 throw new ConflictException("Подтвержденную заявку нельзя аннулировать.");
             }
 
+            RequestStatus previousStatus = request.getStatus();
             request.setStatus(RequestStatus.CANCELED);
-            return ParticipationRequestMapper.toParticipationRequestDto(requestRepository.save(request));
+            ParticipationRequest saved = requestRepository.save(request);
+            counterService.registerTransition(saved.getEvent(), previousStatus, RequestStatus.CANCELED);
+            return ParticipationRequestMapper.toParticipationRequestDto(saved);
         }
 
         @Override
         @Transactional
+        @HotPath
         public ParticipationRequestDto createRequest(Long userId, Long eventId) {
             log.info("Создание заявки: пользователь={} -> событие={}", userId, eventId);
 
@@ -78,41 +97,85 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
                 throw new ConflictException("Регистрация возможна только на опубликованные события.");
             }
 
-            if (requestRepository.existsByEventAndRequester(eventId, userId)) {
-                throw new ConflictException("Дубликат заявки запрещен.");
-            }
-
-            if (event.getParticipantLimit() > 0) {
-                long alreadyConfirmed = requestRepository.countByEventAndStatus(eventId, RequestStatus.CONFIRMED);
-                if (alreadyConfirmed >= event.getParticipantLimit()) {
-                    throw new ConflictException("Свободные места на событие закончились.");
-                }
-            }
+            boolean autoConfirm = !event.getRequestModeration() || event.getParticipantLimit() == 0;
 
             ParticipationRequest newRequest = ParticipationRequest.builder()
                     .created(LocalDateTime.now())
                     .requester(userId)
                     .event(event.getId())
+                    .status(autoConfirm ? RequestStatus.CONFIRMED : RequestStatus.PENDING)
                     .build();
 
-            boolean autoConfirm = !event.getRequestModeration() || event.getParticipantLimit() == 0;
-            newRequest.setStatus(autoConfirm ? RequestStatus.CONFIRMED : RequestStatus.PENDING);
-
-            ParticipationRequest saved = requestRepository.save(newRequest);
-            log.info("Заявка сохранена с ID={} и статусом {}", saved.getId(), saved.getStatus());
-            return ParticipationRequestMapper.toParticipationRequestDto(saved);
+            if (event.getParticipantLimit() > 0) {
+                requestRepository.ensureConfirmedCounter(eventId);
+            }
+            Long id = requestRepository.insertIfAbsentWithinLimit(
+                            newRequest.getEvent(),
+                            newRequest.getRequester(),
+                            newRequest.getStatus().name(),
+                            newRequest.getCreated(),
+                            event.getParticipantLimit())
+                    .orElseThrow(() -> requestRepository.existsByEventAndRequester(eventId, userId)
+                            ? new ConflictException("Дубликат заявки запрещен.")
+                            : new ConflictException("Свободные места на событие закончились."));
+
+            newRequest.setId(id);
+            counterService.invalidate(eventId, newRequest.getStatus());
+            if (autoConfirm) {
+                addConfirmedRequestsAfterCommit(eventId, 1);
+            }
+            log.info("Заявка сохранена с ID={} и статусом {}", newRequest.getId(), newRequest.getStatus());
+            return ParticipationRequestMapper.toParticipationRequestDto(newRequest);
         }
 
         @Override
         public List<ParticipationRequestDto> getRequestsByOwner(Long userId, Long eventId) {
             log.info("Просмотр заявок владельцем id={} для события id={}", userId, eventId);
-            EventFullDto event = fetchEvent(eventId);
+            validateEventOwner(userId, eventId);
+            return convertToDtoList(requestRepository.findAllByEvent(eventId));
+        }
 
-            if (!event.getInitiator().equals(userId)) {
-                throw new ConflictException("Доступ запрещен: пользователь не является организатором.");
-            }
+        @Override
+        public ParticipationRequestPage getUserRequestsPage(Long userId, Long after, int size) {
+            log.info("Запрос страницы заявок пользователя id={} после id={}, размер {}", userId, after, size);
+            validateUserExists(userId);
+            return toPage(requestRepository.findAllByRequesterAndIdGreaterThanOrderByIdAsc(
+                    userId, after, PageRequest.of(0, pageSize(size))), pageSize(size));
+        }
 
-            return convertToDtoList(requestRepository.findAllByEvent(eventId));
+        @Override
+        public ParticipationRequestPage getRequestsByOwnerPage(Long userId, Long eventId, Long after, int size) {
+            log.info("Просмотр страницы заявок владельцем id={} для события id={} после id={}", userId, eventId, after);
+            validateEventOwner(userId, eventId);
+            return toPage(requestRepository.findAllByEventAndIdGreaterThanOrderByIdAsc(
+                    eventId, after, PageRequest.of(0, pageSize(size))), pageSize(size));
+        }
+
+        // Владелец проверяется без транзакции, а выгрузка читается страницами по id, каждая в своей короткой
+        // транзакции репозитория: медленный клиент не удерживает соединение из пула на всё время потока.
+        @Override
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public StreamingResponseBody exportRequestsByOwner(Long userId, Long eventId) {
+            log.info("Выгрузка заявок владельцем id={} для события id={}", userId, eventId);
+            validateEventOwner(userId, eventId);
+
+            return out -> {
+                long after = 0L;
+                List<ParticipationRequest> page;
+                do {
+                    page = requestRepository.findAllByEventAndIdGreaterThanOrderByIdAsc(
+                            eventId, after, PageRequest.of(0, EXPORT_PAGE_SIZE));
+                    for (ParticipationRequest request : page) {
+                        out.write(objectMapper.writeValueAsBytes(
+                                ParticipationRequestMapper.toParticipationRequestDto(request)));
+                        out.write('\n');
+                    }
+                    out.flush();
+                    if (!page.isEmpty()) {
+                        after = page.getLast().getId();
+                    }
+                } while (page.size() == EXPORT_PAGE_SIZE);
+            };
         }
 
     @Override
@@ -130,6 +193,10 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
 
         List<ParticipationRequest> requestsToUpdate = requestRepository.findAllByIdIn(statusUpdateRequest.getRequestIds());
 
+        if (requestsToUpdate.stream().anyMatch(req -> !eventId.equals(req.getEvent()))) {
+            throw new ConflictException("Можно изменять только заявки на событие id=" + eventId + ".");
+        }
+
         if (requestsToUpdate.stream().anyMatch(req -> req.getStatus() != RequestStatus.PENDING)) {
             throw new ConflictException("Можно изменять только заявки в статусе PENDING.");
         }
@@ -137,7 +204,7 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
         List<ParticipationRequest> confirmedRequests = new ArrayList<>();
         List<ParticipationRequest> rejectedRequests = new ArrayList<>();
 
-        long currentConfirmedCount = eventFullDto.getConfirmedRequests();
+        long currentConfirmedCount = counterService.getCount(eventId, RequestStatus.CONFIRMED);
         long limit = eventFullDto.getParticipantLimit();
 
         if (statusUpdateRequest.getStatus() == RequestStatus.REJECTED) {
@@ -169,7 +236,15 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
             rejectedRequests.addAll(otherPending);
         }
 
-        eventClient.updateConfirmedRequests(eventId, currentConfirmedCount);
+        Map<RequestStatus, Long> deltas = new EnumMap<>(RequestStatus.class);
+        deltas.put(RequestStatus.PENDING, -(long) (confirmedRequests.size() + rejectedRequests.size()));
+        deltas.put(RequestStatus.CONFIRMED, (long) confirmedRequests.size());
+        deltas.put(RequestStatus.REJECTED, (long) rejectedRequests.size());
+        counterService.applyDeltas(eventId, deltas);
+
+        if (!confirmedRequests.isEmpty()) {
+            addConfirmedRequestsAfterCommit(eventId, confirmedRequests.size());
+        }
 
         return new EventRequestStatusUpdateResult(
                 convertToDtoList(confirmedRequests),
@@ -178,6 +253,9 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
     }
 
     private EventFullDto fetchEvent(Long id) {
+        if (!remoteIdFilters.mightContainEvent(id)) {
+            throw new NotFoundException("Мероприятие id=" + id + " не существует.");
+        }
         EventFullDto event = eventClient.getEvent(id);
         if (event == null) {
             throw new NotFoundException("Мероприятие id=" + id + " не существует.");
@@ -185,9 +263,40 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
         return event;
     }
 
+        // Дельта уходит в event-service только после коммита: откат не оставит завышенный запасной счётчик,
+        // а удалённый вызов не удерживает транзакцию и соединение из пула.
+        private void addConfirmedRequestsAfterCommit(Long eventId, int delta) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        eventClient.addConfirmedRequests(eventId, delta);
+                    } catch (RuntimeException e) {
+                        log.warn("Не удалось передать event-service {} подтверждённых заявок события id={}: {}",
+                                delta, eventId, e.getMessage());
+                    }
+                }
+            });
+        }
+
+        private void validateEventOwner(Long userId, Long eventId) {
+            EventFullDto event = fetchEvent(eventId);
+            if (!event.getInitiator().equals(userId)) {
+                throw new ConflictException("Доступ запрещен: пользователь не является организатором.");
+            }
+        }
+
+        private int pageSize(int requested) {
+            return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+        }
+
+        private ParticipationRequestPage toPage(List<ParticipationRequest> requests, int size) {
+            Long nextCursor = requests.size() < size ? null : requests.getLast().getId();
+            return new ParticipationRequestPage(convertToDtoList(requests), nextCursor);
+        }
+
         private void validateUserExists(Long id) {
-            List<UserDto> users = userClient.getUsers(List.of(id));
-            if (users.isEmpty()) {
+            if (!userLookup.exists(id)) {
                 throw new NotFoundException("Пользователь id=" + id + " не найден.");
             }
         }
@@ -199,12 +308,14 @@ public class ParticipationRequestServiceImpl implements ParticipationRequestServ
         }
 
         @Override
+        @HotPath
         public long countEventsInStatus(Long eventId, RequestStatus status) {
-            return requestRepository.countByEventAndStatus(eventId, status);
+            return counterService.getCount(eventId, status);
         }
 
         @Override
+        @HotPath
         public Map<Long, Long> countConfirmedRequestsForEvents(Set<Long> eventIds) {
-            return requestRepository.countConfirmedRequestsForEvents(eventIds);
+            return counterService.getCounts(eventIds, RequestStatus.CONFIRMED);
         }
     }
\ No newline at end of file
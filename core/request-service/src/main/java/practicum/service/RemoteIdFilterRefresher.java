@@ -0,0 +1,23 @@
+package practicum.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import practicum.client.EventClient;
+import practicum.client.UserClient;
+import practicum.filter.RemoteIdFilters;
+
+@Component
+@RequiredArgsConstructor
+public class RemoteIdFilterRefresher {
+
+    private final RemoteIdFilters remoteIdFilters;
+    private final UserClient userClient;
+    private final EventClient eventClient;
+
+    @Scheduled(initialDelayString = "${id-filter.refresh-ms:5000}", fixedDelayString = "${id-filter.refresh-ms:5000}")
+    public void refresh() {
+        remoteIdFilters.users().refresh(userClient::getIdFilter);
+        remoteIdFilters.events().refresh(eventClient::getIdFilter);
+    }
+}
@@ -0,0 +1,19 @@
+package practicum.service;
+
+import practicum.model.enums.RequestStatus;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface RequestCounterService {
+
+    void invalidate(Long eventId, RequestStatus status);
+
+    void registerTransition(Long eventId, RequestStatus from, RequestStatus to);
+
+    void applyDeltas(Long eventId, Map<RequestStatus, Long> deltas);
+
+    long getCount(Long eventId, RequestStatus status);
+
+    Map<Long, Long> getCounts(Set<Long> eventIds, RequestStatus status);
+}
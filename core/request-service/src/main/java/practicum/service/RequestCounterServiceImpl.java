@@ -0,0 +1,155 @@
+package practicum.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practicum.model.EventRequestCounterId;
+import practicum.model.enums.RequestStatus;
+import practicum.repository.EventRequestCounterRepository;
+
+import java.util.*;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class RequestCounterServiceImpl implements RequestCounterService {
+
+    private final EventRequestCounterRepository counterRepository;
+    private final boolean cacheEnabled;
+    private final long cacheTtlMillis;
+    private final Map<EventRequestCounterId, CachedCount> cache;
+
+    public RequestCounterServiceImpl(EventRequestCounterRepository counterRepository,
+                                     @Value("${request-counters.cache.enabled:false}") boolean cacheEnabled,
+                                     @Value("${request-counters.cache.max-size:10000}") int cacheMaxSize,
+                                     @Value("${request-counters.cache.ttl-ms:5000}") long cacheTtlMillis) {
+        this.counterRepository = counterRepository;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EventRequestCounterId, CachedCount> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long eventId, RequestStatus status) {
+        evictAfterCommit(eventId, Set.of(status));
+    }
+
+    @Override
+    @Transactional
+    public void registerTransition(Long eventId, RequestStatus from, RequestStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<RequestStatus, Long> deltas = new EnumMap<>(RequestStatus.class);
+        deltas.put(from, -1L);
+        deltas.put(to, 1L);
+        applyDeltas(eventId, deltas);
+    }
+
+    @Override
+    @Transactional
+    public void applyDeltas(Long eventId, Map<RequestStatus, Long> deltas) {
+        deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                counterRepository.addToCount(eventId, status.name(), delta);
+            }
+        });
+        log.debug("Счётчики заявок события id={} изменены: {}", eventId, deltas);
+        evictAfterCommit(eventId, deltas.keySet());
+    }
+
+    @Override
+    public long getCount(Long eventId, RequestStatus status) {
+        EventRequestCounterId key = new EventRequestCounterId(eventId, status);
+        Long cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        long count = counterRepository.findCount(eventId, status).orElse(0L);
+        putCached(key, count);
+        return count;
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(Set<Long> eventIds, RequestStatus status) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Long> result = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        for (Long eventId : eventIds) {
+            Long cached = getCached(new EventRequestCounterId(eventId, status));
+            if (cached != null) {
+                result.put(eventId, cached);
+            } else {
+                misses.add(eventId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Long> loaded = counterRepository.findCounts(misses, status);
+            for (Long eventId : misses) {
+                long count = loaded.getOrDefault(eventId, 0L);
+                putCached(new EventRequestCounterId(eventId, status), count);
+                result.put(eventId, count);
+            }
+        }
+
+        return result;
+    }
+
+    private Long getCached(EventRequestCounterId key) {
+        if (!cacheEnabled || isInWriteTransaction()) {
+            return null;
+        }
+        CachedCount cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            cache.remove(key);
+            return null;
+        }
+        return cached.value();
+    }
+
+    private void putCached(EventRequestCounterId key, long value) {
+        if (cacheEnabled && !isInWriteTransaction()) {
+            cache.put(key, new CachedCount(value, System.currentTimeMillis() + cacheTtlMillis));
+        }
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void evictAfterCommit(Long eventId, Set<RequestStatus> statuses) {
+        if (!cacheEnabled) {
+            return;
+        }
+        Runnable eviction = () -> statuses.forEach(status -> cache.remove(new EventRequestCounterId(eventId, status)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
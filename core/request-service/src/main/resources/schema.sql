@@ -1,11 +1,39 @@
+-- INCREMENT BY должен совпадать с practicum.id.allocation-size.<последовательность> в конфигурации сервиса
+CREATE SEQUENCE IF NOT EXISTS participation_requests_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS participation_requests
 (
-    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id           BIGINT DEFAULT nextval('participation_requests_seq') PRIMARY KEY,
     created_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     event_id     BIGINT      NOT NULL,
     requester_id BIGINT      NOT NULL,
     status       VARCHAR(50) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'REJECTED', 'CANCELED'))
 );
 
-CREATE INDEX idx_participation_requests_event_id ON participation_requests (event_id);
-CREATE INDEX idx_participation_requests_requester_id ON participation_requests (requester_id);
\ No newline at end of file
+-- Дубликаты, накопившиеся до появления уникального индекса: оставляем подтверждённую заявку, иначе самую раннюю
+DELETE
+FROM participation_requests
+WHERE id IN (SELECT ranked.id
+             FROM (SELECT id,
+                          ROW_NUMBER() OVER (PARTITION BY event_id, requester_id
+                                             ORDER BY (status = 'CONFIRMED') DESC, id) AS rn
+                   FROM participation_requests) ranked
+             WHERE ranked.rn > 1);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_participation_requests_event_requester
+    ON participation_requests (event_id, requester_id);
+CREATE INDEX idx_participation_requests_requester_id ON participation_requests (requester_id);
+
+CREATE TABLE IF NOT EXISTS event_request_counters
+(
+    event_id BIGINT      NOT NULL,
+    status   VARCHAR(50) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'REJECTED', 'CANCELED')),
+    count    BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, status)
+);
+
+INSERT INTO event_request_counters (event_id, status, count)
+SELECT event_id, status, COUNT(*)
+FROM participation_requests
+GROUP BY event_id, status
+ON CONFLICT (event_id, status) DO NOTHING;
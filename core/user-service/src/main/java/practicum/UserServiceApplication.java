@@ -3,10 +3,16 @@ package practicum;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import practicum.client.UserClient;
+import practicum.client.transport.InterServiceFeignConfiguration;
 
 @SpringBootApplication
-@EnableFeignClients(clients = UserClient.class)
+@EnableFeignClients(
+        clients = UserClient.class,
+        defaultConfiguration = InterServiceFeignConfiguration.class
+)
+@EnableScheduling
 public class UserServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(UserServiceApplication.class, args);
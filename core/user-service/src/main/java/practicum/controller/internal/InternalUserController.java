@@ -2,11 +2,15 @@ package practicum.controller.internal;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import practicum.model.dto.filter.IdFilterUpdate;
 import practicum.model.dto.user.UserDto;
+import practicum.service.UserIdFilterService;
 import practicum.service.UserService;
 
 import java.util.List;
@@ -17,10 +21,20 @@ import java.util.List;
 @RequestMapping("/api/v1/users")
 public class InternalUserController {
     private final UserService userService;
+    private final UserIdFilterService userIdFilterService;
 
     @GetMapping("/list")
     public List<UserDto> getUsers(@RequestParam List<Long> ids) {
         log.info("INTERNAL-API: Получение списка пользователей. IDs: {}", ids);
         return userService.getUsers(ids);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/id-filter")
+    public ResponseEntity<IdFilterUpdate> getIdFilter(@RequestParam(defaultValue = "") String epoch,
+                                                      @RequestParam(defaultValue = "0") long since) {
+        log.debug("INTERNAL-API: Запрос фильтра идентификаторов пользователей. Эпоха: {}, версия: {}", epoch, since);
+        return userIdFilterService.getUpdates(epoch, since)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
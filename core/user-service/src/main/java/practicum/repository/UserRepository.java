@@ -19,4 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     List<User> findAllByIdIn(List<Long> ids, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u")
+    List<Long> findAllIds();
 }
\ No newline at end of file
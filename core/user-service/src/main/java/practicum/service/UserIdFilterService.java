@@ -0,0 +1,65 @@
+package practicum.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import practicum.filter.IdFilterLogRepository;
+import practicum.filter.IdFilterPublisher;
+import practicum.filter.JpaIdFilterStore;
+import practicum.model.dto.filter.IdFilterUpdate;
+import practicum.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class UserIdFilterService {
+
+    private final IdFilterPublisher publisher;
+
+    public UserIdFilterService(UserRepository userRepository,
+                               IdFilterLogRepository logRepository,
+                               @Value("${id-filter.initial-capacity:1024}") int initialCapacity,
+                               @Value("${id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${id-filter.overlap-ms:60000}") long overlapMillis,
+                               @Value("${id-filter.retention-ms:86400000}") long retentionMillis,
+                               @Value("${spring.jpa.properties.practicum.id.max-block-age-ms:30000}") long maxBlockAgeMillis) {
+        this.publisher = new IdFilterPublisher("users",
+                new JpaIdFilterStore("users", logRepository, userRepository::findAllIds),
+                initialCapacity, falsePositiveRate, overlapMillis, retentionMillis, maxBlockAgeMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${id-filter.rebuild-ms:3600000}", fixedDelayString = "${id-filter.rebuild-ms:3600000}")
+    public void rebuild() {
+        publisher.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${id-filter.refresh-ms:5000}", fixedDelayString = "${id-filter.refresh-ms:5000}")
+    public void catchUp() {
+        publisher.catchUp();
+    }
+
+    @Transactional
+    @Scheduled(initialDelayString = "${id-filter.prune-ms:600000}", fixedDelayString = "${id-filter.prune-ms:600000}")
+    public void prune() {
+        int removed = publisher.prune();
+        log.debug("Из журнала фильтра пользователей удалено {} записей", removed);
+    }
+
+    public void register(Long userId) {
+        publisher.register(List.of(userId));
+    }
+
+    public Optional<IdFilterUpdate> getUpdates(String epoch, long since) {
+        if (!publisher.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(publisher.updatesSince(epoch, since));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import practicum.exception.ConflictException;
 import practicum.exception.NotFoundException;
 import practicum.mapper.UserMapper;
+import practicum.metrics.HotPath;
 import practicum.model.User;
 import practicum.model.dto.user.NewUserRequest;
 import practicum.model.dto.user.UserDto;
@@ -24,8 +25,10 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserIdFilterService userIdFilterService;
 
     @Override
+    @HotPath
     public List<UserDto> getUsers(List<Long> ids) {
         log.info("Получение списка пользователей по IDs: {}", ids);
         List<User> users = userRepository.findAllById(ids);
@@ -45,12 +48,14 @@ public class UserServiceImpl implements UserService {
 
         User user = UserMapper.toUser(newUserRequest);
         User savedUser = userRepository.save(user);
+        userIdFilterService.register(savedUser.getId());
 
         log.info("Пользователь с ID={} успешно создан", savedUser.getId());
         return UserMapper.toUserDto(savedUser);
     }
 
     @Override
+    @HotPath
     public List<UserDto> getUsers(List<Long> ids, Integer from, Integer size) {
         Pageable pageable = PageRequest.of(from / size, size);
         List<User> users;
@@ -1,6 +1,21 @@
+-- INCREMENT BY должен совпадать с practicum.id.allocation-size.<последовательность> в конфигурации сервиса
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 20;
+
 CREATE TABLE IF NOT EXISTS users
 (
-    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id    BIGINT DEFAULT nextval('users_seq') PRIMARY KEY,
     email VARCHAR(254) NOT NULL UNIQUE CHECK (email ~* '.+@.+\..+$'),
     name  VARCHAR(250) NOT NULL
-);
\ No newline at end of file
+);
+
+CREATE SEQUENCE IF NOT EXISTS id_filter_log_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS id_filter_log
+(
+    id        BIGINT DEFAULT nextval('id_filter_log_seq') PRIMARY KEY,
+    filter    VARCHAR(20)              NOT NULL,
+    entity_id BIGINT                   NOT NULL,
+    logged_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_id_filter_log_filter_logged_at ON id_filter_log (filter, logged_at);
@@ -0,0 +1,7 @@
+package practicum.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long storedAt, long expiresAt) {
+}
@@ -0,0 +1,28 @@
+package practicum.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "edgecache")
+@RequiredArgsConstructor
+public class EdgeCacheEndpoint {
+
+    private final EdgeResponseCache cache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> purge(@Nullable String prefix) {
+        return Map.of("purged", cache.purge(prefix));
+    }
+}
@@ -0,0 +1,274 @@
+package practicum.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class EdgeCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<EdgeCacheGatewayFilterFactory.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final String GZIP_VARIANT = "gzip";
+    private static final String IDENTITY_VARIANT = "identity";
+    private static final Set<String> NOT_STORED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NOT_STORED_HEADERS.addAll(List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+                HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.AGE, CACHE_STATUS_HEADER));
+    }
+
+    private final EdgeResponseCache cache;
+    private final HitRecorder hitRecorder;
+    private final Duration coalesceTimeout;
+
+    public EdgeCacheGatewayFilterFactory(EdgeResponseCache cache,
+                                         HitRecorder hitRecorder,
+                                         @Value("${edge-cache.coalesce-timeout-ms:5000}") long coalesceTimeoutMillis) {
+        super(Config.class);
+        this.cache = cache;
+        this.hitRecorder = hitRecorder;
+        this.coalesceTimeout = Duration.ofMillis(coalesceTimeoutMillis);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl", "recordHits");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config),
+                NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!HttpMethod.GET.equals(request.getMethod()) || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return chain.filter(exchange);
+        }
+
+        Map<String, String> directives = parseCacheControl(request.getHeaders().getCacheControl());
+        if (directives.containsKey("no-store")) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        if (!directives.containsKey("no-cache")) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                return serveCached(exchange, cached, config);
+            }
+        }
+
+        CompletableFuture<Optional<CachedResponse>> leader = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedResponse>> inFlight = cache.joinInFlight(key, leader);
+        if (inFlight != null) {
+            return Mono.fromFuture(inFlight, true)
+                    .timeout(coalesceTimeout)
+                    .onErrorReturn(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? serveCached(exchange, response.get(), config)
+                            : chain.filter(exchange));
+        }
+
+        ServerHttpResponse response = new CachingResponse(exchange.getResponse(), key, leader, config);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> cache.completeInFlight(key, leader, null));
+    }
+
+    private Mono<Void> serveCached(ServerWebExchange exchange, CachedResponse cached, Config config) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(HttpHeaders.AGE,
+                String.valueOf((System.currentTimeMillis() - cached.storedAt()) / 1000));
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        if (config.isRecordHits()) {
+            hitRecorder.record(exchange.getRequest());
+        }
+
+        String etag = cached.headers().getETag();
+        if (etag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private long resolveTtlMillis(ServerHttpResponse response, Config config) {
+        HttpHeaders headers = response.getHeaders();
+        MediaType contentType = headers.getContentType();
+        if (response.getStatusCode() == null || response.getStatusCode().value() != HttpStatus.OK.value()
+                || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || !isKeyedVary(headers.getVary())
+                || contentType == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return 0;
+        }
+
+        Map<String, String> directives = parseCacheControl(headers.getCacheControl());
+        if (directives.containsKey("no-store") || directives.containsKey("no-cache")
+                || directives.containsKey("private")) {
+            return 0;
+        }
+
+        long ttlMillis = config.getTtl().toMillis();
+        String maxAge = directives.getOrDefault("s-maxage", directives.get("max-age"));
+        if (maxAge != null) {
+            try {
+                ttlMillis = Math.min(ttlMillis, Long.parseLong(maxAge) * 1000);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return ttlMillis;
+    }
+
+    // Сервисы сжимают крупные ответы для клиентов с Accept-Encoding: gzip, поэтому вариант кодировки входит
+    // в ключ. Вариант стоит после пути и запроса, чтобы очистка кэша по префиксу пути задевала оба.
+    private static String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String resource = query == null ? request.getPath().value() : request.getPath().value() + "?" + query;
+        return resource + "|" + encodingVariant(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private static String encodingVariant(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return IDENTITY_VARIANT;
+        }
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if ((name.equals("gzip") || name.equals("x-gzip") || name.equals("*")) && !isRejected(parts)) {
+                    return GZIP_VARIANT;
+                }
+            }
+        }
+        return IDENTITY_VARIANT;
+    }
+
+    private static boolean isRejected(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            String[] param = codingParts[i].trim().split("=", 2);
+            if (param.length == 2 && param[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(param[1].trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // В ключе учитывается только Accept-Encoding: ответ, зависящий от других заголовков запроса, не кэшируется
+    private static boolean isKeyedVary(List<String> vary) {
+        for (String header : vary) {
+            for (String name : header.split(",")) {
+                String trimmed = name.trim();
+                if (!trimmed.isEmpty() && !trimmed.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> parseCacheControl(String value) {
+        if (value == null || value.isBlank()) {
+            return Map.of();
+        }
+        Map<String, String> directives = new HashMap<>();
+        for (String directive : value.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            directives.put(parts[0].toLowerCase(Locale.ROOT),
+                    parts.length > 1 ? parts[1].replace("\"", "").trim() : "");
+        }
+        return directives;
+    }
+
+    private static HttpHeaders copyStoredHeaders(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!NOT_STORED_HEADERS.contains(name)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final CompletableFuture<Optional<CachedResponse>> leader;
+        private final Config config;
+
+        CachingResponse(ServerHttpResponse delegate, String key,
+                        CompletableFuture<Optional<CachedResponse>> leader, Config config) {
+            super(delegate);
+            this.key = key;
+            this.leader = leader;
+            this.config = config;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            ServerHttpResponse delegate = getDelegate();
+            long ttlMillis = resolveTtlMillis(delegate, config);
+            if (ttlMillis <= 0) {
+                cache.completeInFlight(key, leader, null);
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                    .defaultIfEmpty(delegate.bufferFactory().wrap(new byte[0]))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        long now = System.currentTimeMillis();
+                        CachedResponse cached = new CachedResponse(delegate.getStatusCode(),
+                                copyStoredHeaders(delegate.getHeaders()), bytes, now, now + ttlMillis);
+                        cache.put(key, cached);
+                        cache.completeInFlight(key, leader, cached);
+
+                        delegate.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                        return super.writeWith(Mono.just(delegate.bufferFactory().wrap(bytes)));
+                    });
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(10);
+        private boolean recordHits;
+    }
+}
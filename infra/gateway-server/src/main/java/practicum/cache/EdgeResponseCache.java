@@ -0,0 +1,102 @@
+package practicum.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class EdgeResponseCache {
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<Optional<CachedResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long currentBytes;
+
+    public EdgeResponseCache(@Value("${edge-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${edge-cache.max-entry-bytes:1048576}") int maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.expiresAt() < System.currentTimeMillis()) {
+            remove(key);
+            cached = null;
+        }
+        (cached == null ? misses : hits).incrementAndGet();
+        return cached;
+    }
+
+    public synchronized void put(String key, CachedResponse response) {
+        if (response.body().length > maxEntryBytes) {
+            return;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            currentBytes -= previous.body().length;
+        }
+        currentBytes += response.body().length;
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    public CompletableFuture<Optional<CachedResponse>> joinInFlight(String key,
+                                                                    CompletableFuture<Optional<CachedResponse>> leader) {
+        return inFlight.putIfAbsent(key, leader);
+    }
+
+    public void completeInFlight(String key, CompletableFuture<Optional<CachedResponse>> leader,
+                                 CachedResponse response) {
+        inFlight.remove(key, leader);
+        leader.complete(Optional.ofNullable(response));
+    }
+
+    public synchronized int purge(String prefix) {
+        int before = entries.size();
+        if (prefix == null || prefix.isBlank()) {
+            entries.clear();
+            currentBytes = 0;
+        } else {
+            List<String> keys = entries.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .toList();
+            keys.forEach(this::remove);
+        }
+        int purged = before - entries.size();
+        log.debug("Из кэша gateway удалено {} ответов по префиксу '{}'", purged, prefix);
+        return purged;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("bytes", currentBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            currentBytes -= removed.body().length;
+        }
+    }
+}
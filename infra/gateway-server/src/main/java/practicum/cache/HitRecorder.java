@@ -0,0 +1,50 @@
+package practicum.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import practicum.support.ClientIpResolver;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class HitRecorder {
+
+    private final WebClient webClient;
+    private final ClientIpResolver clientIpResolver;
+    private final String app;
+
+    public HitRecorder(WebClient.Builder webClientBuilder,
+                       ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                       ClientIpResolver clientIpResolver,
+                       @Value("${edge-cache.hits.stats-url:http://stats-server}") String statsUrl,
+                       @Value("${edge-cache.hits.app:ewm-main-service}") String app) {
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(statsUrl)
+                .filter(loadBalancerFunction)
+                .build();
+        this.clientIpResolver = clientIpResolver;
+        this.app = app;
+    }
+
+    public void record(ServerHttpRequest request) {
+        Map<String, Object> hit = Map.of(
+                "app", app,
+                "uri", request.getPath().value(),
+                "ip", clientIpResolver.resolve(request),
+                "timeStamp", LocalDateTime.now()
+        );
+        webClient.post()
+                .uri("/hit")
+                .bodyValue(hit)
+                .retrieve()
+                .toBodilessEntity()
+                .subscribe(response -> {
+                }, e -> log.warn("Не удалось отправить просмотр {} в stats-server: {}", hit.get("uri"), e.getMessage()));
+    }
+}
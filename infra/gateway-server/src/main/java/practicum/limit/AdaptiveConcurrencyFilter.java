@@ -0,0 +1,98 @@
+package practicum.limit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+@Slf4j
+@Component
+public class AdaptiveConcurrencyFilter implements GlobalFilter, Ordered {
+
+    private static final String LOAD_BALANCED_SCHEME = "lb";
+
+    private final ConcurrentMap<String, GradientConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+
+    public AdaptiveConcurrencyFilter(@Value("${concurrency-limit.enabled:true}") boolean enabled,
+                                     @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+                                     @Value("${concurrency-limit.min-limit:5}") int minLimit,
+                                     @Value("${concurrency-limit.max-limit:50}") int maxLimit,
+                                     @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+                                     @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+                                     @Value("${concurrency-limit.long-window:600}") int longWindow) {
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longWindow = longWindow;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null || !LOAD_BALANCED_SCHEME.equals(route.getUri().getScheme())) {
+            return chain.filter(exchange);
+        }
+
+        String serviceId = route.getUri().getHost();
+        GradientConcurrencyLimit limit = limits.computeIfAbsent(serviceId, id -> new GradientConcurrencyLimit(
+                initialLimit, minLimit, maxLimit, smoothing, rttTolerance, longWindow));
+        if (!limit.tryAcquire()) {
+            log.debug("Запрос к {} отклонён: достигнут лимит параллельных запросов {}", serviceId, limit.getLimit());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return response.setComplete();
+        }
+
+        long start = System.nanoTime();
+        AtomicLong rttNanos = new AtomicLong(-1);
+        exchange.getResponse().beforeCommit(() -> {
+            rttNanos.compareAndSet(-1, System.nanoTime() - start);
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean dropped = signal == SignalType.ON_ERROR
+                            || (status != null && (status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                            || status.value() == HttpStatus.GATEWAY_TIMEOUT.value()));
+                    limit.release(rttNanos.get(), dropped);
+                });
+    }
+
+    public Map<String, GradientConcurrencyLimit> getLimits() {
+        return Map.copyOf(limits);
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,89 @@
+package practicum.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import practicum.support.ClientIpResolver;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class LocalRateLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<LocalRateLimitGatewayFilterFactory.Config> {
+
+    public static final int RATE_LIMIT_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private final ClientIpResolver clientIpResolver;
+    private final int maxClients;
+
+    public LocalRateLimitGatewayFilterFactory(ClientIpResolver clientIpResolver,
+                                              @Value("${rate-limit.max-clients:100000}") int maxClients) {
+        super(Config.class);
+        this.clientIpResolver = clientIpResolver;
+        this.maxClients = maxClients;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity", "routeReplenishRate", "routeBurstCapacity");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        TokenBucket routeBucket = config.getRouteReplenishRate() > 0
+                ? new TokenBucket(config.getRouteReplenishRate(), config.getRouteBurstCapacity())
+                : null;
+        Map<String, TokenBucket> clientBuckets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxClients;
+            }
+        });
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            String clientIp = clientIpResolver.resolve(exchange.getRequest());
+            TokenBucket clientBucket = clientBuckets.computeIfAbsent(clientIp,
+                    ip -> new TokenBucket(config.getReplenishRate(), config.getBurstCapacity()));
+            if (!clientBucket.tryConsume()) {
+                log.debug("Превышен лимит запросов клиента {} на {}", clientIp, exchange.getRequest().getPath());
+                return reject(exchange, clientBucket);
+            }
+            if (routeBucket != null && !routeBucket.tryConsume()) {
+                log.debug("Превышен общий лимит запросов маршрута {}", exchange.getRequest().getPath());
+                return reject(exchange, routeBucket);
+            }
+            return chain.filter(exchange);
+        }, RATE_LIMIT_FILTER_ORDER);
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, TokenBucket bucket) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(bucket.secondsUntilNextToken()));
+        return response.setComplete();
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private double replenishRate = 20;
+        private double burstCapacity = 40;
+        private double routeReplenishRate;
+        private double routeBurstCapacity;
+    }
+}
@@ -0,0 +1,42 @@
+package practicum.support;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Сервисы за шлюзом определяют адрес клиента по X-Forwarded-For (server.forward-headers-strategy: framework).
+// Первым значением заголовка ставим тот же адрес, что шлюз использует для лимитов и просмотров из кэша,
+// а присланные клиентом Forwarded/X-Forwarded-For отбрасываем, если им не доверяем.
+@Component
+public class ClientIpForwardingFilter implements GlobalFilter, Ordered {
+
+    private static final String FORWARDED_HEADER = "Forwarded";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final ClientIpResolver clientIpResolver;
+
+    public ClientIpForwardingFilter(ClientIpResolver clientIpResolver) {
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String clientIp = clientIpResolver.resolve(exchange.getRequest());
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(FORWARDED_HEADER);
+                    headers.set(FORWARDED_FOR_HEADER, clientIp);
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,96 @@
+package practicum.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EdgeCacheGatewayFilterFactoryTest {
+
+    private final EdgeResponseCache cache = new EdgeResponseCache(1 << 20, 1 << 20);
+    private final GatewayFilter filter = new EdgeCacheGatewayFilterFactory(cache, null, 5_000)
+            .apply(new EdgeCacheGatewayFilterFactory.Config());
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void keepsGzipAndIdentityVariantsApart() {
+        MockServerHttpResponse gzipped = send("gzip, deflate, br");
+        MockServerHttpResponse plain = send(null);
+        MockServerHttpResponse gzippedAgain = send("gzip");
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(plain.getBodyAsString().block()).isEqualTo("{\"id\":1}");
+        assertThat(gzippedAgain.getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(gzippedAgain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzippedAgain.getBodyAsString().block()).isEqualTo("gzip:{\"id\":1}");
+    }
+
+    @Test
+    void treatsRejectedGzipAsIdentity() {
+        send(null);
+        MockServerHttpResponse rejected = send("gzip;q=0, identity");
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(rejected.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(rejected.getBodyAsString().block()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void doesNotStoreResponsesVaryingOnOtherHeaders() {
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+            return writeJson(response, "{\"id\":1}");
+        };
+
+        send(null, upstream);
+        send(null, upstream);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private MockServerHttpResponse send(String acceptEncoding) {
+        return send(acceptEncoding, exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String encoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+            if (encoding != null && encoding.startsWith("gzip") && !encoding.contains("q=0")) {
+                response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                return writeJson(response, "gzip:{\"id\":1}");
+            }
+            return writeJson(response, "{\"id\":1}");
+        });
+    }
+
+    private MockServerHttpResponse send(String acceptEncoding, GatewayFilterChain upstream) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/events/1");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, upstream).block();
+        return exchange.getResponse();
+    }
+
+    private static Mono<Void> writeJson(ServerHttpResponse response, String body) {
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,121 @@
+package practicum.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimitTest {
+
+    private static final int MIN_LIMIT = 5;
+    private static final int MAX_LIMIT = 50;
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void admitsUpToLimit() {
+        GradientConcurrencyLimit limit = newLimit(10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+
+        limit.release(BASE_RTT, false);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsUnderLoadWithStableRtt() {
+        GradientConcurrencyLimit limit = newLimit(10);
+
+        saturate(limit, BASE_RTT, 5);
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        saturate(limit, BASE_RTT, 500);
+        assertThat(limit.getLimit()).isGreaterThan(grown).isEqualTo(MAX_LIMIT);
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        GradientConcurrencyLimit limit = newLimit(10);
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(BASE_RTT, false);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffOnDrops() {
+        GradientConcurrencyLimit limit = newLimit(20);
+
+        limit.tryAcquire();
+        limit.release(BASE_RTT, true);
+        assertThat(limit.getLimit()).isEqualTo(18);
+        assertThat(limit.getInFlight()).isZero();
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(BASE_RTT, true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    void backsOffWhenRttRises() {
+        GradientConcurrencyLimit limit = newLimit(10);
+        saturate(limit, BASE_RTT, 500);
+        int beforeSlowdown = limit.getLimit();
+
+        saturate(limit, BASE_RTT * 4, 1);
+        int afterSlowdown = limit.getLimit();
+        assertThat(afterSlowdown).isLessThan(beforeSlowdown);
+
+        saturate(limit, BASE_RTT * 4, 3);
+        assertThat(limit.getLimit()).isLessThanOrEqualTo(afterSlowdown).isGreaterThanOrEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    void adaptsToSustainedHigherRtt() {
+        GradientConcurrencyLimit limit = newLimit(10);
+        saturate(limit, BASE_RTT, 500);
+        saturate(limit, BASE_RTT * 4, 3);
+        int backedOff = limit.getLimit();
+
+        saturate(limit, BASE_RTT * 4, 500);
+
+        assertThat(limit.getLimit()).isGreaterThan(backedOff);
+    }
+
+    @Test
+    void toleratesRttJitterWithinTolerance() {
+        GradientConcurrencyLimit limit = newLimit(10);
+        saturate(limit, BASE_RTT, 500);
+
+        saturate(limit, BASE_RTT * 14 / 10, 20);
+
+        assertThat(limit.getLimit()).isEqualTo(MAX_LIMIT);
+    }
+
+    private GradientConcurrencyLimit newLimit(int initialLimit) {
+        return new GradientConcurrencyLimit(initialLimit, MIN_LIMIT, MAX_LIMIT, 0.2, 1.5, 600);
+    }
+
+    // Заполняет все разрешённые слоты и завершает запросы с заданным временем ответа
+    private void saturate(GradientConcurrencyLimit limit, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos, false);
+            }
+        }
+    }
+}
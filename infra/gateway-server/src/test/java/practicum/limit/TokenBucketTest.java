@@ -0,0 +1,93 @@
+package practicum.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private long now = 1_000_000L;
+
+    @Test
+    void startsFullAndRejectsWhenEmpty() {
+        TokenBucket bucket = new TokenBucket(10, 3, () -> now);
+
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void refillsAtReplenishRate() {
+        TokenBucket bucket = new TokenBucket(10, 2, () -> now);
+        drain(bucket);
+
+        advanceMillis(50);
+        assertThat(bucket.tryConsume()).isFalse();
+
+        advanceMillis(50);
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+
+        advanceMillis(200);
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    void neverRefillsAboveCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, () -> now);
+        drain(bucket);
+
+        advanceMillis(60_000);
+
+        assertThat(drain(bucket)).isEqualTo(2);
+    }
+
+    @Test
+    void retryAfterIsZeroWhileTokensRemain() {
+        TokenBucket bucket = new TokenBucket(1, 2, () -> now);
+        bucket.tryConsume();
+
+        assertThat(bucket.secondsUntilNextToken()).isZero();
+    }
+
+    @Test
+    void retryAfterCountsWholeSecondsUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(0.25, 1, () -> now);
+        drain(bucket);
+
+        assertThat(bucket.secondsUntilNextToken()).isEqualTo(4);
+
+        advanceMillis(1_500);
+        assertThat(bucket.secondsUntilNextToken()).isEqualTo(3);
+
+        advanceMillis(2_500);
+        assertThat(bucket.secondsUntilNextToken()).isZero();
+        assertThat(bucket.tryConsume()).isTrue();
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        TokenBucket bucket = new TokenBucket(100, 1, () -> now);
+        drain(bucket);
+
+        assertThat(bucket.secondsUntilNextToken()).isEqualTo(1);
+    }
+
+    private int drain(TokenBucket bucket) {
+        int consumed = 0;
+        while (bucket.tryConsume()) {
+            consumed++;
+        }
+        return consumed;
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
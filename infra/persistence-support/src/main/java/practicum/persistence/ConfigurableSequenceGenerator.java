@@ -0,0 +1,52 @@
+package practicum.persistence;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.Properties;
+
+// Генератор для @PooledSequence. Размер блока задаётся настройкой practicum.id.allocation-size.<имя последовательности>
+// (spring.jpa.properties), а без неё берётся allocationSize из аннотации сущности.
+// INCREMENT BY последовательности создаётся Hibernate из того же значения, поэтому они не расходятся.
+// Время жизни блока ограничено practicum.id.max-block-age-ms, от него зависит покрытие фильтров идентификаторов.
+// Модуль общий для core и stats-server: stats-server не зависит от interaction-api с клиентами и DTO core.
+public class ConfigurableSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_PREFIX = "practicum.id.allocation-size.";
+    public static final String MAX_BLOCK_AGE = "practicum.id.max-block-age-ms";
+    public static final long DEFAULT_MAX_BLOCK_AGE_MILLIS = 30_000;
+
+    private final String sequenceName;
+    private final int allocationSize;
+
+    public ConfigurableSequenceGenerator(PooledSequence config, Member member,
+                                         CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.name();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Map<String, Object> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        Object configuredSize = settings.get(ALLOCATION_SIZE_PREFIX + sequenceName);
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, configuredSize != null
+                ? configuredSize.toString()
+                : String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, ExpiringPooledLoOptimizer.class.getName());
+        super.configure(type, parameters, serviceRegistry);
+
+        if (getOptimizer() instanceof ExpiringPooledLoOptimizer optimizer) {
+            Object maxBlockAge = settings.get(MAX_BLOCK_AGE);
+            optimizer.setMaxBlockAgeMillis(maxBlockAge != null
+                    ? Long.parseLong(maxBlockAge.toString())
+                    : DEFAULT_MAX_BLOCK_AGE_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package practicum.persistence;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AbstractOptimizer;
+import org.hibernate.id.enhanced.AccessCallback;
+
+import java.io.Serializable;
+import java.util.concurrent.locks.ReentrantLock;
+
+// pooled-lo, который не держит блок дольше maxBlockAgeMillis: недоиспользованный остаток старого блока
+// выбрасывается. Так id, меньший уже закоммиченного, может появиться в БД лишь ограниченное время спустя,
+// и фильтр идентификаторов считает такие id окончательно покрытыми (см. IdFilterPublisher).
+// Блокировка вместо synchronized, чтобы не закреплять виртуальный поток на время nextval.
+public class ExpiringPooledLoOptimizer extends AbstractOptimizer {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long maxBlockAgeMillis = Long.MAX_VALUE;
+
+    private IntegralDataTypeHolder lastSourceValue;
+    private IntegralDataTypeHolder upperLimitValue;
+    private IntegralDataTypeHolder value;
+    private long allocatedAt;
+
+    public ExpiringPooledLoOptimizer(Class<?> returnClass, int incrementSize) {
+        super(returnClass, incrementSize);
+        if (incrementSize < 1) {
+            throw new IllegalArgumentException("Размер блока идентификаторов должен быть положительным");
+        }
+    }
+
+    public void setMaxBlockAgeMillis(long maxBlockAgeMillis) {
+        this.maxBlockAgeMillis = maxBlockAgeMillis;
+    }
+
+    @Override
+    public Serializable generate(AccessCallback callback) {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (lastSourceValue == null || !value.lt(upperLimitValue) || now - allocatedAt >= maxBlockAgeMillis) {
+                lastSourceValue = callback.getNextValue();
+                upperLimitValue = lastSourceValue.copy().add(incrementSize);
+                value = lastSourceValue.copy();
+                while (value.lt(1)) {
+                    value.increment();
+                }
+                // Возраст блока отсчитывается от момента до nextval, чтобы оценка была с запасом
+                allocatedAt = now;
+            }
+            return value.makeValueThenIncrement();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public IntegralDataTypeHolder getLastSourceValue() {
+        return lastSourceValue;
+    }
+
+    @Override
+    public boolean applyIncrementSizeToSourceValues() {
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package practicum.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// Идентификатор из последовательности БД с выдачей блоками pooled-lo.
+// allocationSize — значение по умолчанию, его можно переопределить настройкой practicum.id.allocation-size.<name>.
+@IdGeneratorType(ConfigurableSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+
+    String name();
+
+    int allocationSize() default 50;
+}
@@ -0,0 +1,227 @@
+package practicum.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+@Slf4j
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private final Path path;
+    private final long maxBytes;
+    private BufferedWriter writer;
+    private long writtenBytes;
+
+    public OtlpJsonFileSpanExporter(Path path, long maxBytes) {
+        this.path = path;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (spans.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            String line = toJson(spans);
+            if (writer == null || writtenBytes + line.length() > maxBytes) {
+                rollOver();
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+            writtenBytes += line.length() + 1;
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Не удалось записать {} спанов в {}: {}", spans.size(), path, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void rollOver() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(path) && (writer != null || Files.size(path) >= maxBytes)) {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        writtenBytes = Files.size(path);
+    }
+
+    private static String toJson(Collection<SpanData> spans) {
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            grouped.computeIfAbsent(span.getResource(), resource -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationScopeInfo(), scope -> new ArrayList<>())
+                    .add(span);
+        }
+
+        StringBuilder json = new StringBuilder("{\"resourceSpans\":[");
+        boolean firstResource = true;
+        for (Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resource : grouped.entrySet()) {
+            json.append(firstResource ? "" : ",").append("{\"resource\":{\"attributes\":");
+            appendAttributes(json, resource.getKey().getAttributes());
+            json.append("},\"scopeSpans\":[");
+            boolean firstScope = true;
+            for (Map.Entry<InstrumentationScopeInfo, List<SpanData>> scope : resource.getValue().entrySet()) {
+                json.append(firstScope ? "" : ",").append("{\"scope\":{\"name\":");
+                appendString(json, scope.getKey().getName());
+                json.append("},\"spans\":[");
+                boolean firstSpan = true;
+                for (SpanData span : scope.getValue()) {
+                    json.append(firstSpan ? "" : ",");
+                    appendSpan(json, span);
+                    firstSpan = false;
+                }
+                json.append("]}");
+                firstScope = false;
+            }
+            json.append("]}");
+            firstResource = false;
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendSpan(StringBuilder json, SpanData span) {
+        json.append("{\"traceId\":\"").append(span.getTraceId())
+                .append("\",\"spanId\":\"").append(span.getSpanId()).append('"');
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid()) {
+            json.append(",\"parentSpanId\":\"").append(parent.getSpanId()).append('"');
+        }
+        json.append(",\"name\":");
+        appendString(json, span.getName());
+        json.append(",\"kind\":").append(span.getKind().ordinal() + 1)
+                .append(",\"startTimeUnixNano\":\"").append(span.getStartEpochNanos())
+                .append("\",\"endTimeUnixNano\":\"").append(span.getEndEpochNanos())
+                .append("\",\"attributes\":");
+        appendAttributes(json, span.getAttributes());
+        if (!span.getEvents().isEmpty()) {
+            json.append(",\"events\":[");
+            boolean first = true;
+            for (EventData event : span.getEvents()) {
+                json.append(first ? "" : ",").append("{\"timeUnixNano\":\"").append(event.getEpochNanos())
+                        .append("\",\"name\":");
+                appendString(json, event.getName());
+                json.append(",\"attributes\":");
+                appendAttributes(json, event.getAttributes());
+                json.append('}');
+                first = false;
+            }
+            json.append(']');
+        }
+        json.append(",\"status\":{\"code\":").append(span.getStatus().getStatusCode().ordinal());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            json.append(",\"message\":");
+            appendString(json, span.getStatus().getDescription());
+        }
+        json.append("}}");
+    }
+
+    private static void appendAttributes(StringBuilder json, Attributes attributes) {
+        json.append('[');
+        boolean[] first = {true};
+        attributes.forEach((key, value) -> {
+            json.append(first[0] ? "" : ",").append("{\"key\":");
+            appendString(json, key.getKey());
+            json.append(",\"value\":");
+            appendValue(json, key, value);
+            json.append('}');
+            first[0] = false;
+        });
+        json.append(']');
+    }
+
+    private static void appendValue(StringBuilder json, AttributeKey<?> key, Object value) {
+        switch (key.getType()) {
+            case BOOLEAN -> json.append("{\"boolValue\":").append(value).append('}');
+            case LONG -> json.append("{\"intValue\":\"").append(value).append("\"}");
+            case DOUBLE -> json.append("{\"doubleValue\":").append(value).append('}');
+            case STRING -> {
+                json.append("{\"stringValue\":");
+                appendString(json, String.valueOf(value));
+                json.append('}');
+            }
+            default -> {
+                json.append("{\"arrayValue\":{\"values\":[");
+                boolean first = true;
+                for (Object item : (List<?>) value) {
+                    json.append(first ? "" : ",").append("{\"stringValue\":");
+                    appendString(json, String.valueOf(item));
+                    json.append('}');
+                    first = false;
+                }
+                json.append("]}}");
+            }
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
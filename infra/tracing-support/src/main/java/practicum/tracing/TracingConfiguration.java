@@ -0,0 +1,26 @@
+package practicum.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfiguration {
+
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    public OtlpJsonFileSpanExporter otlpJsonFileSpanExporter(
+            @Value("${tracing.file.path:traces/${spring.application.name}.jsonl}") String path,
+            @Value("${tracing.file.max-bytes:52428800}") long maxBytes) {
+        return new OtlpJsonFileSpanExporter(Path.of(path), maxBytes);
+    }
+}
@@ -0,0 +1,118 @@
+package practicum.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.stereotype.Component;
+import practicum.loadtest.client.EwmClient;
+import practicum.loadtest.database.LocalDatabase;
+import practicum.loadtest.metrics.LatencyRecorder;
+import practicum.loadtest.report.LoadTestReport;
+import practicum.loadtest.run.LoadDriver;
+import practicum.loadtest.seed.DataSeeder;
+import practicum.loadtest.service.ServiceEndpoints;
+import practicum.loadtest.service.ServiceLauncher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+public class LoadTestRunner implements CommandLineRunner {
+
+    private final LocalDatabase database;
+    private final ServiceLauncher launcher;
+    private final DataSeeder seeder;
+    private final LoadDriver driver;
+    private final LoadTestReport report;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableEnvironment environment;
+    private final Duration requestTimeout;
+    private final int clientIps;
+    private final boolean compareThreads;
+
+    public LoadTestRunner(LocalDatabase database, ServiceLauncher launcher, DataSeeder seeder, LoadDriver driver,
+                          LoadTestReport report, ObjectMapper objectMapper, ConfigurableEnvironment environment,
+                          @Value("${load-test.run.request-timeout:10s}") Duration requestTimeout,
+                          @Value("${load-test.run.client-ips:1000}") int clientIps,
+                          @Value("${load-test.services.compare-threads:false}") boolean compareThreads) {
+        this.database = database;
+        this.launcher = launcher;
+        this.seeder = seeder;
+        this.driver = driver;
+        this.report = report;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.requestTimeout = requestTimeout;
+        this.clientIps = clientIps;
+        this.compareThreads = compareThreads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!compareThreads) {
+            runOnce(launcher.isVirtualThreads());
+            return;
+        }
+        if (!launcher.isLaunching()) {
+            throw new IllegalStateException("Для сравнения потоков сервисы запускаются заново: нужен load-test.services.launch=true");
+        }
+
+        // Оба прогона с чистой базой, одним наполнением и одной нагрузкой, различается только режим потоков сервисов
+        Map<String, LoadDriver.LoadRunResult> results = new LinkedHashMap<>();
+        for (boolean virtualThreads : List.of(false, true)) {
+            results.put(threadMode(virtualThreads), runOnce(virtualThreads));
+        }
+        report.writeThreadComparison(settings(), results);
+    }
+
+    private LoadDriver.LoadRunResult runOnce(boolean virtualThreads) throws Exception {
+        try {
+            if (launcher.isLaunching()) {
+                database.start(launcher.databases());
+            }
+            ServiceEndpoints endpoints = launcher.start(database, virtualThreads);
+
+            LatencyRecorder seedRecorder = new LatencyRecorder();
+            try (EwmClient client = new EwmClient(objectMapper, endpoints, requestTimeout, clientIps, seedRecorder)) {
+                long seedStart = System.nanoTime();
+                DataSeeder.SeedResult seed = seeder.seed(client);
+                long seedElapsed = System.nanoTime() - seedStart;
+
+                LoadDriver.LoadRunResult run = driver.run(client, seed.data());
+                Map<String, Object> settings = settings();
+                settings.put("load-test.services.virtual-threads", String.valueOf(virtualThreads));
+                report.write(settings, seed.steps(), seedRecorder.summarize(seedElapsed), run);
+                return run;
+            }
+        } finally {
+            launcher.close();
+            database.close();
+        }
+    }
+
+    private static String threadMode(boolean virtualThreads) {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    // Все load-test.* в отчёте, чтобы прогоны с разными настройками (например, виртуальные потоки вкл/выкл) можно было сравнить
+    private Map<String, Object> settings() {
+        Map<String, Object> settings = new TreeMap<>();
+        environment.getPropertySources().forEach(source -> {
+            if (source instanceof EnumerablePropertySource<?> enumerable) {
+                for (String name : enumerable.getPropertyNames()) {
+                    if (name.startsWith("load-test.") && !name.endsWith("password")) {
+                        settings.putIfAbsent(name, environment.getProperty(name));
+                    }
+                }
+            }
+        });
+        return settings;
+    }
+}
@@ -0,0 +1,30 @@
+package practicum.loadtest.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+public record ApiResponse(int status, String body, ObjectMapper objectMapper) {
+
+    static final int FAILED = -1;
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+
+    public JsonNode json() {
+        if (body == null || body.isEmpty()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    public long id() {
+        return json().path("id").asLong();
+    }
+}
@@ -0,0 +1,115 @@
+package practicum.loadtest.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import practicum.loadtest.metrics.EndpointStats;
+import practicum.loadtest.metrics.LatencyRecorder;
+import practicum.loadtest.service.ServiceEndpoints;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class EwmClient implements AutoCloseable {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final ServiceEndpoints endpoints;
+    private final Duration requestTimeout;
+    private final String[] clientIps;
+    private volatile LatencyRecorder recorder;
+
+    public EwmClient(ObjectMapper objectMapper, ServiceEndpoints endpoints, Duration requestTimeout,
+                     int clientIps, LatencyRecorder recorder) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.objectMapper = objectMapper;
+        this.endpoints = endpoints;
+        this.requestTimeout = requestTimeout;
+        this.clientIps = new String[Math.max(1, clientIps)];
+        for (int i = 0; i < this.clientIps.length; i++) {
+            this.clientIps[i] = "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF);
+        }
+        this.recorder = recorder;
+    }
+
+    public void recordTo(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    public ApiResponse get(String endpoint, String pathAndQuery) {
+        return send(endpoint, endpoints.baseUrl(pathAndQuery), pathAndQuery, request -> request.GET());
+    }
+
+    public ApiResponse post(String endpoint, String pathAndQuery, Object body) {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(toJson(body));
+        return send(endpoint, endpoints.baseUrl(pathAndQuery), pathAndQuery, request -> request.POST(publisher));
+    }
+
+    public ApiResponse patch(String endpoint, String pathAndQuery, Object body) {
+        String json = toJson(body);
+        return send(endpoint, endpoints.baseUrl(pathAndQuery), pathAndQuery,
+                request -> request.method("PATCH", HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    public ApiResponse postHit(Object hit) {
+        String json = toJson(hit);
+        return send("POST /hit", endpoints.statsUrl(), "/hit",
+                request -> request.POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    private ApiResponse send(String endpoint, String baseUrl, String pathAndQuery, Method method) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("X-Forwarded-For", clientIps[ThreadLocalRandom.current().nextInt(clientIps.length)]);
+        HttpRequest request = method.apply(builder).build();
+
+        EndpointStats stats = recorder.endpoint(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(System.nanoTime() - start, response.statusCode());
+            return new ApiResponse(response.statusCode(), response.body(), objectMapper);
+        } catch (IOException e) {
+            stats.recordFailure(System.nanoTime() - start);
+            return new ApiResponse(ApiResponse.FAILED, null, objectMapper);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiResponse(ApiResponse.FAILED, null, objectMapper);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось сериализовать тело запроса", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Method {
+        HttpRequest.Builder apply(HttpRequest.Builder builder);
+    }
+}
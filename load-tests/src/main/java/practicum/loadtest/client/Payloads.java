@@ -0,0 +1,76 @@
+package practicum.loadtest.client;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class Payloads {
+
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    public static final String APP = "ewm-main-service";
+
+    private static final int LOCATIONS = 500;
+    private static final long[] PARTICIPANT_LIMITS = {0, 0, 10, 50, 200};
+
+    private Payloads() {
+
+    }
+
+    public static Map<String, Object> newCategory(String name) {
+        return Map.of("name", name);
+    }
+
+    public static Map<String, Object> newUser(String name, String email) {
+        return Map.of("name", name, "email", email);
+    }
+
+    public static Map<String, Object> newEvent(long number, long categoryId, String word, Random random) {
+        int location = random.nextInt(LOCATIONS);
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("annotation", capitalize(word) + " №" + number + ": программа, участники и условия посещения");
+        event.put("category", categoryId);
+        event.put("description", ("Подробное описание: " + word + " №" + number
+                + ". Место, время, что взять с собой и как добраться. ").repeat(3));
+        event.put("eventDate", DATE_TIME.format(LocalDateTime.now()
+                .plusDays(2 + random.nextInt(120))
+                .plusMinutes(random.nextInt(24 * 60))));
+        event.put("location", Map.of(
+                "lat", coordinate(55.5 + location * 0.001),
+                "lon", coordinate(37.3 + location * 0.0012)));
+        event.put("paid", random.nextInt(3) == 0);
+        event.put("participantLimit", PARTICIPANT_LIMITS[random.nextInt(PARTICIPANT_LIMITS.length)]);
+        event.put("requestModeration", random.nextInt(10) < 7);
+        event.put("title", capitalize(word) + " #" + number);
+        return event;
+    }
+
+    public static Map<String, Object> moderation(List<Long> eventIds, String stateAction) {
+        return Map.of("eventIds", eventIds, "stateAction", stateAction);
+    }
+
+    public static Map<String, Object> adminUpdate(String stateAction) {
+        return Map.of("stateAction", stateAction);
+    }
+
+    public static Map<String, Object> statusUpdate(List<Long> requestIds, String status) {
+        return Map.of("requestIds", requestIds, "status", status);
+    }
+
+    public static Map<String, Object> hit(String uri, String ip, LocalDateTime timestamp) {
+        return Map.of("app", APP, "uri", uri, "ip", ip,
+                "timeStamp", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.withNano(0)));
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(6, RoundingMode.HALF_UP);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,115 @@
+package practicum.loadtest.database;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class LocalDatabase implements AutoCloseable {
+
+    private static final String EMBEDDED = "embedded";
+
+    private final String mode;
+    private final String externalUrl;
+    private final String username;
+    private final String password;
+    private final Path dataDir;
+    private EmbeddedPostgres embedded;
+    private String baseUrl;
+
+    public LocalDatabase(@Value("${load-test.database.mode:embedded}") String mode,
+                         @Value("${load-test.database.url:jdbc:postgresql://localhost:5432/}") String externalUrl,
+                         @Value("${load-test.database.username:postgres}") String username,
+                         @Value("${load-test.database.password:postgres}") String password,
+                         @Value("${load-test.database.data-dir:target/load-test/postgres}") String dataDir) {
+        this.mode = mode;
+        this.externalUrl = externalUrl.endsWith("/") ? externalUrl : externalUrl + "/";
+        this.username = username;
+        this.password = password;
+        this.dataDir = Path.of(dataDir);
+    }
+
+    public void start(String... databases) throws IOException, SQLException {
+        if (EMBEDDED.equalsIgnoreCase(mode)) {
+            deleteRecursively(dataDir);
+            Files.createDirectories(dataDir);
+            embedded = EmbeddedPostgres.builder()
+                    .setDataDirectory(dataDir)
+                    .setCleanDataDirectory(true)
+                    .setServerConfig("max_connections", "300")
+                    .start();
+            baseUrl = "jdbc:postgresql://localhost:" + embedded.getPort() + "/";
+            log.info("Встроенный PostgreSQL запущен на порту {}", embedded.getPort());
+        } else {
+            baseUrl = externalUrl;
+            log.info("Используется внешний PostgreSQL {}", baseUrl);
+        }
+
+        try (Connection connection = DriverManager.getConnection(baseUrl + "postgres", username(), password())) {
+            for (String database : databases) {
+                createIfMissing(connection, database);
+            }
+        }
+    }
+
+    public String url(String database) {
+        return baseUrl + database;
+    }
+
+    public String username() {
+        return embedded != null ? "postgres" : username;
+    }
+
+    public String password() {
+        return embedded != null ? "" : password;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+            embedded = null;
+            log.info("Встроенный PostgreSQL остановлен");
+        }
+    }
+
+    private static void createIfMissing(Connection connection, String database) throws SQLException {
+        try (PreparedStatement exists = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            exists.setString(1, database);
+            try (ResultSet rs = exists.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE \"" + database + "\"");
+        }
+        log.info("Создана база данных {}", database);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
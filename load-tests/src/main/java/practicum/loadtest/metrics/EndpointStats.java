@@ -0,0 +1,79 @@
+package practicum.loadtest.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String endpoint;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+    private final Histogram accumulated = new Histogram(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void mergeFrom(EndpointStats other) {
+        synchronized (other) {
+            other.accumulated.add(other.recorder.getIntervalHistogram());
+            accumulated.add(other.accumulated);
+        }
+        success.add(other.success.sum());
+        clientErrors.add(other.clientErrors.sum());
+        throttled.add(other.throttled.sum());
+        serverErrors.add(other.serverErrors.sum());
+        failures.add(other.failures.sum());
+    }
+
+    public void record(long nanos, int status) {
+        recorder.recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+        if (status < 400) {
+            success.increment();
+        } else if (status == 429 || status == 503) {
+            throttled.increment();
+        } else if (status < 500) {
+            clientErrors.increment();
+        } else {
+            serverErrors.increment();
+        }
+    }
+
+    public void recordFailure(long nanos) {
+        recorder.recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+        failures.increment();
+    }
+
+    public synchronized EndpointSummary summarize(long elapsedNanos) {
+        accumulated.add(recorder.getIntervalHistogram());
+        long count = accumulated.getTotalCount();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new EndpointSummary(
+                endpoint,
+                count,
+                seconds > 0 ? count / seconds : 0,
+                millis(accumulated.getValueAtPercentile(50)),
+                millis(accumulated.getValueAtPercentile(90)),
+                millis(accumulated.getValueAtPercentile(99)),
+                millis(accumulated.getMaxValue()),
+                success.sum(),
+                clientErrors.sum(),
+                throttled.sum(),
+                serverErrors.sum(),
+                failures.sum()
+        );
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,6 @@
+package practicum.loadtest.metrics;
+
+public record EndpointSummary(String endpoint, long count, double throughput,
+                              double p50Millis, double p90Millis, double p99Millis, double maxMillis,
+                              long success, long clientErrors, long throttled, long serverErrors, long failures) {
+}
@@ -0,0 +1,31 @@
+package practicum.loadtest.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class LatencyRecorder {
+
+    public static final String TOTAL = "всего";
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public EndpointStats endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    public List<EndpointSummary> summarize(long elapsedNanos) {
+        return endpoints.values().stream()
+                .map(stats -> stats.summarize(elapsedNanos))
+                .sorted(Comparator.comparing(EndpointSummary::endpoint))
+                .toList();
+    }
+
+    // Перцентили по всем запросам сразу: гистограммы эндпоинтов складываются, а не усредняются
+    public EndpointSummary summarizeTotal(long elapsedNanos) {
+        EndpointStats total = new EndpointStats(TOTAL);
+        endpoints.values().forEach(total::mergeFrom);
+        return total.summarize(elapsedNanos);
+    }
+}
@@ -0,0 +1,161 @@
+package practicum.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import practicum.loadtest.metrics.EndpointSummary;
+import practicum.loadtest.metrics.LatencyRecorder;
+import practicum.loadtest.run.LoadDriver;
+import practicum.loadtest.seed.SeedStep;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+public class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String ROW = "%-46s %9s %9s %9s %9s %9s %9s %7s %7s %7s %7s %7s";
+    private static final String COMPARISON_ROW = "%-46s %-9s %9s %9s %9s %9s %9s %9s %8s";
+
+    private final Path reportDir;
+    private final ObjectMapper objectMapper;
+
+    public LoadTestReport(@Value("${load-test.report.dir:target/load-test}") String reportDir,
+                          ObjectMapper objectMapper) {
+        this.reportDir = Path.of(reportDir);
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public void write(Map<String, Object> settings, List<SeedStep> seedSteps, List<EndpointSummary> seedEndpoints,
+                      LoadDriver.LoadRunResult run) throws IOException {
+        StringBuilder out = new StringBuilder("\n");
+        out.append("Наполнение данными\n");
+        out.append(String.format(Locale.ROOT, "%-16s %10s %10s %10s %12s%n", "шаг", "попыток", "создано", "мс", "строк/с"));
+        for (SeedStep step : seedSteps) {
+            out.append(String.format(Locale.ROOT, "%-16s %10d %10d %10d %12.1f%n", step.name(), step.attempted(),
+                    step.created(), step.nanos() / 1_000_000, step.rowsPerSecond()));
+        }
+        out.append("\nЗадержки при наполнении\n");
+        appendEndpoints(out, seedEndpoints);
+        out.append(String.format(Locale.ROOT, "%nНагрузка: %d клиентов, замер %.1f с%n",
+                run.concurrency(), run.elapsedNanos() / 1_000_000_000.0));
+        appendEndpoints(out, run.endpoints());
+        log.info(out.toString());
+
+        Files.createDirectories(reportDir);
+        String suffix = FILE_SUFFIX.format(LocalDateTime.now());
+        Path csv = reportDir.resolve("endpoints-" + suffix + ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("endpoint,count,rps,p50_ms,p90_ms,p99_ms,max_ms,ok,4xx,throttled,5xx,failed");
+            for (EndpointSummary e : run.endpoints()) {
+                writer.printf(Locale.ROOT, "\"%s\",%d,%.2f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%d,%d%n",
+                        e.endpoint(), e.count(), e.throughput(), e.p50Millis(), e.p90Millis(), e.p99Millis(),
+                        e.maxMillis(), e.success(), e.clientErrors(), e.throttled(), e.serverErrors(), e.failures());
+            }
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("seed", seedSteps);
+        json.put("seedEndpoints", seedEndpoints);
+        json.put("concurrency", run.concurrency());
+        json.put("measuredSeconds", run.elapsedNanos() / 1_000_000_000.0);
+        json.put("total", run.total());
+        json.put("endpoints", run.endpoints());
+        Path report = reportDir.resolve("report-" + suffix + ".json");
+        objectMapper.writeValue(report.toFile(), json);
+        log.info("Отчёт сохранён в {} и {}", report.toAbsolutePath(), csv.toAbsolutePath());
+    }
+
+    // Режимы потоков рядом по каждому эндпоинту; изменение считается относительно первого режима
+    public void writeThreadComparison(Map<String, Object> settings, Map<String, LoadDriver.LoadRunResult> runs)
+            throws IOException {
+        String baseline = runs.keySet().iterator().next();
+        Map<String, Map<String, EndpointSummary>> byEndpoint = new TreeMap<>();
+        runs.forEach((mode, run) -> {
+            byEndpoint.computeIfAbsent(LatencyRecorder.TOTAL, key -> new LinkedHashMap<>()).put(mode, run.total());
+            run.endpoints().forEach(e ->
+                    byEndpoint.computeIfAbsent(e.endpoint(), key -> new LinkedHashMap<>()).put(mode, e));
+        });
+
+        StringBuilder out = new StringBuilder("\n");
+        LoadDriver.LoadRunResult first = runs.get(baseline);
+        out.append(String.format(Locale.ROOT, "Сравнение потоков: %d клиентов, замер %.1f с%n",
+                first.concurrency(), first.elapsedNanos() / 1_000_000_000.0));
+        out.append(String.format(Locale.ROOT, COMPARISON_ROW + "%n", "endpoint", "threads", "rps", "p50 ms",
+                "p90 ms", "p99 ms", "max ms", "errors", "rps Δ%"));
+        byEndpoint.forEach((endpoint, modes) -> modes.forEach((mode, e) -> {
+            EndpointSummary base = modes.get(baseline);
+            String delta = base == null || mode.equals(baseline) || base.throughput() == 0
+                    ? ""
+                    : String.format(Locale.ROOT, "%+.1f", (e.throughput() / base.throughput() - 1) * 100);
+            out.append(String.format(Locale.ROOT, COMPARISON_ROW + "%n", endpoint, mode,
+                    String.format(Locale.ROOT, "%.1f", e.throughput()),
+                    String.format(Locale.ROOT, "%.2f", e.p50Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.p90Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.p99Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.maxMillis()),
+                    errors(e), delta));
+        }));
+        log.info(out.toString());
+
+        Files.createDirectories(reportDir);
+        String suffix = FILE_SUFFIX.format(LocalDateTime.now());
+        Path csv = reportDir.resolve("threads-" + suffix + ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("endpoint,threads,count,rps,p50_ms,p90_ms,p99_ms,max_ms,ok,4xx,throttled,5xx,failed");
+            byEndpoint.forEach((endpoint, modes) -> modes.forEach((mode, e) ->
+                    writer.printf(Locale.ROOT, "\"%s\",%s,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%d,%d%n",
+                            endpoint, mode, e.count(), e.throughput(), e.p50Millis(), e.p90Millis(),
+                            e.p99Millis(), e.maxMillis(), e.success(), e.clientErrors(), e.throttled(),
+                            e.serverErrors(), e.failures())));
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("concurrency", first.concurrency());
+        Map<String, Object> modes = new LinkedHashMap<>();
+        runs.forEach((mode, run) -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("measuredSeconds", run.elapsedNanos() / 1_000_000_000.0);
+            result.put("total", run.total());
+            result.put("endpoints", run.endpoints());
+            modes.put(mode, result);
+        });
+        json.put("threads", modes);
+        Path report = reportDir.resolve("threads-" + suffix + ".json");
+        objectMapper.writeValue(report.toFile(), json);
+        log.info("Сравнение потоков сохранено в {} и {}", report.toAbsolutePath(), csv.toAbsolutePath());
+    }
+
+    private static long errors(EndpointSummary e) {
+        return e.clientErrors() + e.throttled() + e.serverErrors() + e.failures();
+    }
+
+    private static void appendEndpoints(StringBuilder out, List<EndpointSummary> endpoints) {
+        out.append(String.format(Locale.ROOT, ROW + "%n", "endpoint", "count", "rps", "p50 ms", "p90 ms",
+                "p99 ms", "max ms", "ok", "4xx", "429/503", "5xx", "failed"));
+        for (EndpointSummary e : endpoints) {
+            out.append(String.format(Locale.ROOT, ROW + "%n", e.endpoint(), e.count(),
+                    String.format(Locale.ROOT, "%.1f", e.throughput()),
+                    String.format(Locale.ROOT, "%.2f", e.p50Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.p90Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.p99Millis()),
+                    String.format(Locale.ROOT, "%.2f", e.maxMillis()),
+                    e.success(), e.clientErrors(), e.throttled(), e.serverErrors(), e.failures()));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package practicum.loadtest.run;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import practicum.loadtest.client.EwmClient;
+import practicum.loadtest.metrics.EndpointSummary;
+import practicum.loadtest.metrics.LatencyRecorder;
+import practicum.loadtest.seed.SeedData;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class LoadDriver {
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration thinkTime;
+    private final Map<Scenario, Integer> mix;
+    private final int totalWeight;
+
+    public LoadDriver(@Value("${load-test.run.concurrency:64}") int concurrency,
+                      @Value("${load-test.run.warmup:15s}") Duration warmup,
+                      @Value("${load-test.run.duration:60s}") Duration duration,
+                      @Value("${load-test.run.think-time:0ms}") Duration thinkTime,
+                      @Value("${load-test.run.mix:browse:40,search:25,detail:25,sign-up:7,moderation:3}") String mix) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.thinkTime = thinkTime;
+        this.mix = parseMix(mix);
+        this.totalWeight = this.mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Сумма весов сценариев должна быть положительной: " + mix);
+        }
+    }
+
+    public LoadRunResult run(EwmClient client, SeedData data) throws InterruptedException {
+        LatencyRecorder measured = new LatencyRecorder();
+        client.recordTo(new LatencyRecorder());
+        log.info("Нагрузка: {} клиентов, прогрев {}, замер {}, смесь {}", concurrency, warmup, duration, mix);
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.execute(() -> work(client, data, stopAt));
+            }
+            Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+            client.recordTo(measured);
+            log.info("Прогрев завершён, идёт замер");
+        }
+        long elapsed = Math.max(1, Math.min(System.nanoTime(), stopAt) - measureFrom);
+
+        return new LoadRunResult(concurrency, elapsed, measured.summarize(elapsed), measured.summarizeTotal(elapsed));
+    }
+
+    private void work(EwmClient client, SeedData data, long stopAt) {
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = pick(random);
+            long start = System.nanoTime();
+            try {
+                scenario.execute(client, data, random);
+                client.recorder().endpoint("[" + scenario.key() + "]").record(System.nanoTime() - start, 200);
+            } catch (RuntimeException e) {
+                client.recorder().endpoint("[" + scenario.key() + "]").recordFailure(System.nanoTime() - start);
+                log.debug("Сценарий {} завершился ошибкой: {}", scenario.key(), e.getMessage());
+            }
+            if (!thinkTime.isZero()) {
+                try {
+                    Thread.sleep(thinkTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private Scenario pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Scenario.BROWSE;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : mix.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Ожидается сценарий:вес, получено: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromKey(pair[0]), weight);
+            }
+        }
+        return weights;
+    }
+
+    public record LoadRunResult(int concurrency, long elapsedNanos, List<EndpointSummary> endpoints,
+                                EndpointSummary total) {
+    }
+}
@@ -0,0 +1,147 @@
+package practicum.loadtest.run;
+
+import practicum.loadtest.client.ApiResponse;
+import practicum.loadtest.client.EwmClient;
+import practicum.loadtest.client.Payloads;
+import practicum.loadtest.seed.SeedData;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+public enum Scenario {
+
+    BROWSE("browse") {
+        @Override
+        void execute(EwmClient client, SeedData data, Random random) {
+            int pages = Math.max(1, data.getPublishedEvents().size() / PAGE_SIZE);
+            int from = Math.min(pages - 1, (int) (pages * Math.pow(random.nextDouble(), 3))) * PAGE_SIZE;
+            client.get("GET /events", "/events?sort=EVENT_DATE&from=" + from + "&size=" + PAGE_SIZE);
+            if (random.nextInt(10) < 3) {
+                client.get("GET /categories", "/categories?from=0&size=" + PAGE_SIZE);
+            }
+        }
+    },
+
+    SEARCH("search") {
+        @Override
+        void execute(EwmClient client, SeedData data, Random random) {
+            StringJoiner query = new StringJoiner("&", "/events?", "");
+            if (random.nextBoolean()) {
+                query.add("text=" + encode(SeedData.SEARCH_WORDS.get(random.nextInt(SeedData.SEARCH_WORDS.size()))));
+            }
+            if (random.nextBoolean()) {
+                StringJoiner categories = new StringJoiner(",");
+                for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+                    categories.add(String.valueOf(data.getCategories().random(random)));
+                }
+                query.add("categories=" + categories);
+            }
+            if (random.nextInt(3) == 0) {
+                query.add("paid=" + random.nextBoolean());
+            }
+            if (random.nextBoolean()) {
+                LocalDateTime start = LocalDateTime.now().plusDays(random.nextInt(30));
+                query.add("rangeStart=" + encode(Payloads.DATE_TIME.format(start)));
+                query.add("rangeEnd=" + encode(Payloads.DATE_TIME.format(start.plusDays(7 + random.nextInt(60)))));
+            }
+            if (random.nextInt(10) < 3) {
+                query.add("onlyAvailable=true");
+            }
+            query.add("sort=" + (random.nextBoolean() ? "VIEWS" : "EVENT_DATE"));
+            query.add("from=0");
+            query.add("size=" + PAGE_SIZE);
+            client.get("GET /events (search)", query.toString());
+        }
+    },
+
+    DETAIL("detail") {
+        @Override
+        void execute(EwmClient client, SeedData data, Random random) {
+            long eventId = data.getPublishedEvents().popular(random);
+            client.get("GET /events/{id}", "/events/" + eventId);
+            if (random.nextBoolean()) {
+                client.get("GET /events/{id}/comments", "/events/" + eventId + "/comments");
+            }
+        }
+    },
+
+    SIGN_UP("sign-up") {
+        @Override
+        void execute(EwmClient client, SeedData data, Random random) {
+            String suffix = UUID.randomUUID().toString().substring(0, 12);
+            ApiResponse user = client.post("POST /admin/users", "/admin/users",
+                    Payloads.newUser("Участник " + suffix, suffix + "." + data.getRunId() + "@load.test"));
+            if (!user.isSuccess()) {
+                return;
+            }
+            long userId = user.id();
+            data.getUsers().add(userId);
+
+            long eventId = data.getPublishedEvents().popular(random);
+            ApiResponse request = client.post("POST /users/{userId}/requests",
+                    "/users/" + userId + "/requests?eventId=" + eventId, null);
+            if (request.isSuccess() && "PENDING".equals(request.json().path("status").asText())) {
+                data.getPendingRequests().add(new SeedData.PendingRequest(request.id(), eventId,
+                        data.getInitiators().getOrDefault(eventId, -1L)));
+            }
+        }
+    },
+
+    MODERATION("moderation") {
+        @Override
+        void execute(EwmClient client, SeedData data, Random random) {
+            Long eventId = data.getPendingEvents().poll();
+            if (eventId != null) {
+                client.get("GET /admin/events", "/admin/events?states=PENDING&from=0&size=" + PAGE_SIZE);
+                boolean publish = random.nextInt(10) < 8;
+                ApiResponse response = client.patch("PATCH /admin/events/{id}", "/admin/events/" + eventId,
+                        Payloads.adminUpdate(publish ? "PUBLISH_EVENT" : "REJECT_EVENT"));
+                if (response.isSuccess() && publish) {
+                    data.getPublishedEvents().add(eventId);
+                }
+            }
+
+            SeedData.PendingRequest request = data.getPendingRequests().poll();
+            if (request != null && request.initiatorId() > 0) {
+                client.patch("PATCH /users/{userId}/events/{id}/requests",
+                        "/users/" + request.initiatorId() + "/events/" + request.eventId() + "/requests",
+                        Payloads.statusUpdate(List.of(request.requestId()),
+                                random.nextInt(10) < 8 ? "CONFIRMED" : "REJECTED"));
+            } else if (eventId == null) {
+                client.get("GET /admin/events", "/admin/events?from=0&size=" + PAGE_SIZE);
+            }
+        }
+    };
+
+    private static final int PAGE_SIZE = 10;
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    abstract void execute(EwmClient client, SeedData data, Random random);
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key.trim())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный сценарий нагрузки: " + key);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,201 @@
+package practicum.loadtest.seed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import practicum.loadtest.client.ApiResponse;
+import practicum.loadtest.client.EwmClient;
+import practicum.loadtest.client.Payloads;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+@Slf4j
+@Component
+public class DataSeeder {
+
+    private static final int MODERATION_CHUNK = 1000;
+
+    private final String runId;
+    private final int concurrency;
+    private final int categories;
+    private final int users;
+    private final double organizerShare;
+    private final int events;
+    private final int eventsBatchSize;
+    private final double pendingShare;
+    private final int requests;
+    private final int hits;
+
+    public DataSeeder(@Value("${load-test.seed.run-id:}") String runId,
+                      @Value("${load-test.seed.concurrency:16}") int concurrency,
+                      @Value("${load-test.seed.categories:20}") int categories,
+                      @Value("${load-test.seed.users:500}") int users,
+                      @Value("${load-test.seed.organizer-share:0.2}") double organizerShare,
+                      @Value("${load-test.seed.events:2000}") int events,
+                      @Value("${load-test.seed.events-batch-size:100}") int eventsBatchSize,
+                      @Value("${load-test.seed.pending-share:0.1}") double pendingShare,
+                      @Value("${load-test.seed.requests:5000}") int requests,
+                      @Value("${load-test.seed.hits:20000}") int hits) {
+        this.runId = runId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : runId;
+        this.concurrency = concurrency;
+        this.categories = categories;
+        this.users = users;
+        this.organizerShare = organizerShare;
+        this.events = events;
+        this.eventsBatchSize = eventsBatchSize;
+        this.pendingShare = pendingShare;
+        this.requests = requests;
+        this.hits = hits;
+    }
+
+    public SeedResult seed(EwmClient client) {
+        SeedData data = new SeedData(runId);
+        List<SeedStep> steps = new ArrayList<>();
+
+        steps.add(step("categories", categories, i -> {
+            ApiResponse response = client.post("POST /admin/categories", "/admin/categories",
+                    Payloads.newCategory("Категория " + i + " " + runId));
+            if (response.isSuccess()) {
+                data.getCategories().add(response.id());
+            }
+            return response.isSuccess();
+        }));
+        requireSeeded("категории", data.getCategories());
+
+        steps.add(step("users", users, i -> {
+            ApiResponse response = client.post("POST /admin/users", "/admin/users",
+                    Payloads.newUser("Пользователь " + i, "user" + i + "." + runId + "@load.test"));
+            if (response.isSuccess()) {
+                data.getUsers().add(response.id());
+            }
+            return response.isSuccess();
+        }));
+        requireSeeded("пользователи", data.getUsers());
+
+        List<Long> created = Collections.synchronizedList(new ArrayList<>(events));
+        int organizers = Math.max(1, (int) (data.getUsers().size() * organizerShare));
+        int batches = (events + eventsBatchSize - 1) / eventsBatchSize;
+        steps.add(rowsStep("events", events, batches, (batch, rows) -> {
+            Random random = ThreadLocalRandom.current();
+            long initiator = data.getUsers().get(batch % organizers);
+            int from = batch * eventsBatchSize;
+            List<Map<String, Object>> payload = new ArrayList<>();
+            for (int n = from; n < Math.min(events, from + eventsBatchSize); n++) {
+                payload.add(Payloads.newEvent(n, data.getCategories().random(random),
+                        SeedData.SEARCH_WORDS.get(n % SeedData.SEARCH_WORDS.size()), random));
+            }
+            ApiResponse response = client.post("POST /users/{userId}/events/batch",
+                    "/users/" + initiator + "/events/batch", payload);
+            if (response.isSuccess()) {
+                for (JsonNode event : response.json()) {
+                    long id = event.path("id").asLong();
+                    created.add(id);
+                    data.getInitiators().put(id, initiator);
+                    rows.increment();
+                }
+            }
+        }));
+        requireSeeded("события", created);
+
+        Collections.shuffle(created, new Random(runId.hashCode()));
+        int pending = (int) (created.size() * pendingShare);
+        List<Long> toPublish = created.subList(pending, created.size());
+        data.getPendingEvents().addAll(created.subList(0, pending));
+        int chunks = (toPublish.size() + MODERATION_CHUNK - 1) / MODERATION_CHUNK;
+        steps.add(rowsStep("events.publish", toPublish.size(), chunks, (chunk, rows) -> {
+            List<Long> ids = toPublish.subList(chunk * MODERATION_CHUNK,
+                    Math.min(toPublish.size(), (chunk + 1) * MODERATION_CHUNK));
+            ApiResponse response = client.post("POST /admin/events/batch", "/admin/events/batch",
+                    Payloads.moderation(ids, "PUBLISH_EVENT"));
+            if (response.isSuccess()) {
+                ids.forEach(data.getPublishedEvents()::add);
+                rows.add(ids.size());
+            }
+        }));
+        requireSeeded("опубликованные события", data.getPublishedEvents());
+
+        Set<Long> pairs = ConcurrentHashMap.newKeySet();
+        steps.add(step("requests", requests, i -> {
+            Random random = ThreadLocalRandom.current();
+            long eventId = data.getPublishedEvents().popular(random);
+            long userId = data.getUsers().random(random);
+            long initiator = data.getInitiators().getOrDefault(eventId, -1L);
+            if (userId == initiator || !pairs.add(eventId << 32 | userId)) {
+                return false;
+            }
+            ApiResponse response = client.post("POST /users/{userId}/requests",
+                    "/users/" + userId + "/requests?eventId=" + eventId, null);
+            if (response.isSuccess() && "PENDING".equals(response.json().path("status").asText())) {
+                data.getPendingRequests().add(new SeedData.PendingRequest(response.id(), eventId, initiator));
+            }
+            return response.isSuccess();
+        }));
+
+        steps.add(step("hits", hits, i -> {
+            Random random = ThreadLocalRandom.current();
+            String ip = "192.168." + random.nextInt(256) + "." + random.nextInt(256);
+            ApiResponse response = client.postHit(Payloads.hit("/events/" + data.getPublishedEvents().popular(random),
+                    ip, LocalDateTime.now().minusMinutes(random.nextInt(7 * 24 * 60))));
+            return response.isSuccess();
+        }));
+
+        return new SeedResult(data, steps);
+    }
+
+    private SeedStep step(String name, int count, IntPredicate task) {
+        return rowsStep(name, count, count, (i, rows) -> {
+            if (task.test(i)) {
+                rows.increment();
+            }
+        });
+    }
+
+    private SeedStep rowsStep(String name, int rowsAttempted, int tasks, RowsTask task) {
+        LongAdder rows = new LongAdder();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().factory())) {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                executor.execute(() -> task.run(index, rows));
+            }
+        }
+        SeedStep step = new SeedStep(name, rowsAttempted, rows.sum(), System.nanoTime() - start);
+        log.info("Наполнение {}: создано {} из {} за {} мс ({} строк/с)", name, step.created(), rowsAttempted,
+                step.nanos() / 1_000_000, String.format("%.1f", step.rowsPerSecond()));
+        return step;
+    }
+
+    private static void requireSeeded(String what, IdPool pool) {
+        if (pool.size() == 0) {
+            throw new IllegalStateException("Не удалось создать " + what + ", см. логи сервисов.");
+        }
+    }
+
+    private static void requireSeeded(String what, List<Long> ids) {
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Не удалось создать " + what + ", см. логи сервисов.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowsTask {
+        void run(int index, LongAdder rows);
+    }
+
+    public record SeedResult(SeedData data, List<SeedStep> steps) {
+    }
+}
@@ -0,0 +1,35 @@
+package practicum.loadtest.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class IdPool {
+
+    private long[] ids = new long[256];
+    private int size;
+
+    public synchronized void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long get(int index) {
+        return ids[index];
+    }
+
+    public synchronized long random(Random random) {
+        return ids[random.nextInt(size)];
+    }
+
+    // Популярность по степенному закону: первые элементы пула запрашиваются заметно чаще хвоста
+    public synchronized long popular(Random random) {
+        double r = random.nextDouble();
+        return ids[(int) (size * r * r * r)];
+    }
+}
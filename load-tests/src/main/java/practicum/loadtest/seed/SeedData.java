@@ -0,0 +1,31 @@
+package practicum.loadtest.seed;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Getter
+public class SeedData {
+
+    public static final List<String> SEARCH_WORDS = List.of("концерт", "выставка", "лекция", "фестиваль",
+            "мастер-класс", "спектакль", "экскурсия", "турнир", "кинопоказ", "ярмарка");
+
+    private final String runId;
+    private final IdPool users = new IdPool();
+    private final IdPool categories = new IdPool();
+    private final IdPool publishedEvents = new IdPool();
+    private final Map<Long, Long> initiators = new ConcurrentHashMap<>();
+    private final Queue<Long> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    public SeedData(String runId) {
+        this.runId = runId;
+    }
+
+    public record PendingRequest(long requestId, long eventId, long initiatorId) {
+    }
+}
@@ -0,0 +1,8 @@
+package practicum.loadtest.seed;
+
+public record SeedStep(String name, long attempted, long created, long nanos) {
+
+    public double rowsPerSecond() {
+        return nanos > 0 ? created * 1_000_000_000.0 / nanos : 0;
+    }
+}
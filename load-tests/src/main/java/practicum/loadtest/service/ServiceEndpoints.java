@@ -0,0 +1,23 @@
+package practicum.loadtest.service;
+
+public record ServiceEndpoints(boolean direct, String gatewayUrl, String statsUrl,
+                               String userServiceUrl, String requestServiceUrl, String eventServiceUrl) {
+
+    public static ServiceEndpoints viaGateway(String gatewayUrl, String statsUrl) {
+        return new ServiceEndpoints(false, gatewayUrl, statsUrl, null, null, null);
+    }
+
+    // Та же маршрутизация по путям, что и у gateway-server
+    public String baseUrl(String path) {
+        if (!direct) {
+            return gatewayUrl;
+        }
+        if (path.startsWith("/admin/users")) {
+            return userServiceUrl;
+        }
+        if (path.matches("^/users/[^/]+/requests.*")) {
+            return requestServiceUrl;
+        }
+        return eventServiceUrl;
+    }
+}
@@ -0,0 +1,229 @@
+package practicum.loadtest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import practicum.loadtest.database.LocalDatabase;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class ServiceLauncher implements AutoCloseable {
+
+    private static final String CONFIG_ROOT = "infra/config-server/src/main/resources/config/";
+    private static final String EWM_DB = "ewm-db";
+    private static final String STATS_DB = "stats-db";
+    private static final List<String> QUIET_LOGGERS = List.of("org.springframework.orm.jpa",
+            "org.springframework.transaction", "org.springframework.transaction.interceptor",
+            "org.springframework.orm.jpa.JpaTransactionManager", "org.hibernate.sql", "org.hibernate.type",
+            "org.hibernate.orm.jdbc.bind");
+
+    private final boolean launch;
+    private final Path rootDir;
+    private final int basePort;
+    private final boolean virtualThreads;
+    private final double tracingProbability;
+    private final String jvmOptions;
+    private final Duration startupTimeout;
+    private final String target;
+    private final String gatewayUrl;
+    private final String statsUrl;
+    private final Path reportDir;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final List<Process> processes = new ArrayList<>();
+
+    public ServiceLauncher(@Value("${load-test.services.launch:true}") boolean launch,
+                           @Value("${load-test.services.root-dir:..}") String rootDir,
+                           @Value("${load-test.services.base-port:19090}") int basePort,
+                           @Value("${load-test.services.virtual-threads:true}") boolean virtualThreads,
+                           @Value("${load-test.services.tracing-probability:0.0}") double tracingProbability,
+                           @Value("${load-test.services.jvm-options:}") String jvmOptions,
+                           @Value("${load-test.services.startup-timeout:180s}") Duration startupTimeout,
+                           @Value("${load-test.services.target:gateway}") String target,
+                           @Value("${load-test.services.gateway-url:http://localhost:8080}") String gatewayUrl,
+                           @Value("${load-test.services.stats-url:http://localhost:9090}") String statsUrl,
+                           @Value("${load-test.report.dir:target/load-test}") String reportDir) {
+        this.launch = launch;
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.basePort = basePort;
+        this.virtualThreads = virtualThreads;
+        this.tracingProbability = tracingProbability;
+        this.jvmOptions = jvmOptions;
+        this.startupTimeout = startupTimeout;
+        this.target = target;
+        this.gatewayUrl = gatewayUrl;
+        this.statsUrl = statsUrl;
+        this.reportDir = Path.of(reportDir).toAbsolutePath().normalize();
+    }
+
+    public boolean isLaunching() {
+        return launch;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public String[] databases() {
+        return new String[]{EWM_DB, STATS_DB};
+    }
+
+    public ServiceEndpoints start(LocalDatabase database) throws IOException, InterruptedException {
+        return start(database, virtualThreads);
+    }
+
+    public ServiceEndpoints start(LocalDatabase database, boolean virtualThreads)
+            throws IOException, InterruptedException {
+        if (!launch) {
+            log.info("Сервисы не запускаются, нагрузка идёт на {}", gatewayUrl);
+            return ServiceEndpoints.viaGateway(gatewayUrl, statsUrl);
+        }
+
+        List<LaunchedService> services = List.of(
+                new LaunchedService("stats-server", "stats/stats-server",
+                        "stats/stats-server/stats-server.yaml", STATS_DB, basePort),
+                new LaunchedService("user-service", "core/user-service",
+                        "core/user-service/user-service.yaml", EWM_DB, basePort + 1),
+                new LaunchedService("request-service", "core/request-service",
+                        "core/request-service/request-service.yaml", EWM_DB, basePort + 2),
+                new LaunchedService("event-service", "core/event-service",
+                        "core/event-service/event-service.yaml", EWM_DB, basePort + 3),
+                new LaunchedService("gateway-server", "infra/gateway-server",
+                        "infra/gateway-service/gateway-service.yaml", null, basePort + 4)
+        );
+
+        Files.createDirectories(reportDir.resolve("logs"));
+        for (LaunchedService service : services) {
+            Process process = launch(service, services, database, virtualThreads);
+            processes.add(process);
+            awaitHealthy(service, process);
+        }
+
+        String gateway = services.get(4).url();
+        if ("direct".equalsIgnoreCase(target)) {
+            return new ServiceEndpoints(true, gateway, services.get(0).url(),
+                    services.get(1).url(), services.get(2).url(), services.get(3).url());
+        }
+        return ServiceEndpoints.viaGateway(gateway, services.get(0).url());
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    private Process launch(LaunchedService service, List<LaunchedService> all, LocalDatabase database,
+                           boolean virtualThreads) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmOptions.isBlank()) {
+            command.addAll(Arrays.asList(jvmOptions.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(findJar(service).toString());
+
+        command.add("--server.port=" + service.port());
+        // Проверка готовности и метрики идут на основной порт, отдельный management-порт шлюза здесь не нужен
+        command.add("--management.server.port=" + service.port());
+        command.add("--spring.application.name=" + service.name());
+        command.add("--spring.config.location=file:" + rootDir.resolve(CONFIG_ROOT + service.config()));
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--spring.cloud.config.import-check.enabled=false");
+        command.add("--spring.cloud.openfeign.okhttp.enabled=true");
+        command.add("--eureka.client.enabled=false");
+        for (LaunchedService other : all) {
+            command.add("--spring.cloud.discovery.client.simple.instances." + other.name() + "[0].uri=" + other.url());
+        }
+        command.add("--spring.threads.virtual.enabled=" + virtualThreads);
+        command.add("--management.tracing.sampling.probability=" + tracingProbability);
+        command.add("--spring.jpa.properties.hibernate.show_sql=false");
+        QUIET_LOGGERS.forEach(logger -> command.add("--logging.level." + logger + "=WARN"));
+
+        if (service.database() != null) {
+            command.add("--spring.datasource.url=" + database.url(service.database()));
+            command.add("--spring.datasource.username=" + database.username());
+            command.add("--spring.datasource.password=" + database.password());
+        } else {
+            // Клиенты нагрузочного теста различаются по X-Forwarded-For, иначе все они упрутся в лимит одного IP
+            command.add("--gateway.trust-forwarded-for=true");
+        }
+
+        File logFile = reportDir.resolve("logs").resolve(service.name() + ".log").toFile();
+        log.info("Запуск {} на порту {}, виртуальные потоки: {}", service.name(), service.port(), virtualThreads);
+        return new ProcessBuilder(command)
+                .directory(reportDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+    }
+
+    private Path findJar(LaunchedService service) throws IOException {
+        Path targetDir = rootDir.resolve(service.module()).resolve("target");
+        if (!Files.isDirectory(targetDir)) {
+            throw new IllegalStateException("Модуль " + service.module() + " не собран, выполните mvn package.");
+        }
+        try (Stream<Path> files = Files.list(targetDir)) {
+            List<Path> jars = files
+                    .filter(path -> path.getFileName().toString().endsWith(".jar"))
+                    .filter(path -> !path.getFileName().toString().matches(".*-(sources|javadoc|tests)\\.jar"))
+                    .toList();
+            return jars.stream()
+                    .filter(path -> path.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .or(() -> jars.stream().findFirst())
+                    .orElseThrow(() -> new IllegalStateException("В " + targetDir + " нет собранного jar, выполните mvn package."));
+        }
+    }
+
+    private void awaitHealthy(LaunchedService service, Process process) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(service.url() + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.name() + " завершился при старте, см. logs/" + service.name() + ".log");
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} готов", service.name());
+                    return;
+                }
+            } catch (IOException e) {
+                // сервис ещё не слушает порт
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service.name() + " не стартовал за " + startupTimeout);
+    }
+
+    private record LaunchedService(String name, String module, String config, String database, int port) {
+        String url() {
+            return "http://localhost:" + port;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package practicum.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,9 +23,11 @@ public class StatsServiceImpl implements StatsService {
     private static final Logger log = LoggerFactory.getLogger(StatsServiceImpl.class);
 
     private final StatsRepository statsRepository;
+    private final MeterRegistry meterRegistry;
 
-    public StatsServiceImpl(StatsRepository statsRepository) {
+    public StatsServiceImpl(StatsRepository statsRepository, MeterRegistry meterRegistry) {
         this.statsRepository = statsRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -33,6 +37,10 @@ public class StatsServiceImpl implements StatsService {
         Hit hit = HitMapper.toHit(hitDto);
 
         Hit savedHit =  statsRepository.save(hit);
+        Counter.builder("stats.hits.ingested")
+                .tag("app", String.valueOf(hitDto.getApp()))
+                .register(meterRegistry)
+                .increment();
 
         return HitMapper.toHitDto(savedHit);
     }
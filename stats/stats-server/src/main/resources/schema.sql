@@ -1,6 +1,9 @@
+-- INCREMENT BY должен совпадать с practicum.id.allocation-size.<последовательность> в конфигурации сервиса
+CREATE SEQUENCE IF NOT EXISTS hits_seq START WITH 1 INCREMENT BY 100;
+
 CREATE TABLE IF NOT EXISTS hits
 (
-    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id      BIGINT DEFAULT nextval('hits_seq') PRIMARY KEY,
     app     VARCHAR(100)                          NOT NULL,
     uri     VARCHAR(2000)                         NOT NULL,
     ip      INET                                  NOT NULL,